@@ -0,0 +1,39 @@
+package com.example.taskmanagement.reactive.Controller;
+
+import java.security.Principal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.taskmanagement.Service.AuthTokenService;
+import com.example.taskmanagement.response.ResponseHandler;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Reactive controller exchanging HTTP Basic credentials for a bearer token,
+ * like {@code AuthController}.
+ */
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RequestMapping("/auth")
+@AllArgsConstructor
+@RestController
+public class ReactiveAuthController {
+
+    private AuthTokenService authTokenService;
+
+    /**
+     * Issues a short-lived bearer token to a user authenticated with HTTP Basic.
+     *
+     * @param principal The authenticated user.
+     * @return The token and its expiry.
+     */
+    @PostMapping("/login")
+    public ResponseEntity<Object> login(Principal principal) {
+        return ResponseHandler.ResponseBuilder("Token issued", HttpStatus.OK, authTokenService.issue(principal.getName()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.taskmanagement.reactive.Controller;
+
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.reactive.Service.ReactiveTagService;
+import com.example.taskmanagement.response.ResponseHandler;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive controller for the /tags write routes, only registered with
+ * {@code reactive.writes.enabled=true}; see
+ * {@link ReactiveTaskWritesController} for why.
+ */
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RequestMapping("/tags")
+@AllArgsConstructor
+@RestController
+@ConditionalOnProperty(name = "reactive.writes.enabled", havingValue = "true")
+public class ReactiveTagWritesController {
+
+    private ReactiveTagService tagService;
+
+    /**
+     * Creates re-usable tags.
+     *
+     * @param tag The set of tags to be created.
+     * @return The created tags.
+     */
+    @PostMapping("/create/")
+    public Mono<ResponseEntity<Object>> createTag(@RequestBody Set<Tag> tag) {
+        if (tag.isEmpty()) {
+            return Mono.just(ResponseHandler.ResponseBuilder("Please provide at least one tag", HttpStatus.BAD_REQUEST));
+        }
+        return tagService.createTags(tag)
+                .map(created -> ResponseHandler.ResponseBuilder("Tag Created successfully", HttpStatus.CREATED, created));
+    }
+
+    /**
+     * Deletes a tag by its ID.
+     *
+     * @param tagId The ID of the tag to be deleted.
+     * @return Success message.
+     */
+    @DeleteMapping("/delete/{tagId}")
+    public Mono<ResponseEntity<Object>> deleteTag(@PathVariable("tagId") Long tagId) {
+        return tagService.deleteTag(tagId)
+                .thenReturn(ResponseHandler.ResponseBuilder(
+                        "Tag deleted successfully without affecting associated tasks", HttpStatus.OK));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.taskmanagement.reactive.Controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.taskmanagement.reactive.Service.ReactiveTagService;
+import com.example.taskmanagement.response.ResponseHandler;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive controller for the /tags read routes, with the payloads and
+ * response envelope of {@code TagsController}. The write routes are in
+ * {@link ReactiveTagWritesController}.
+ */
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RequestMapping("/tags")
+@AllArgsConstructor
+@RestController
+public class ReactiveTagsController {
+
+    private ReactiveTagService tagService;
+
+    /**
+     * Retrieves a specific tag with its tasks.
+     *
+     * @param tagId The ID of the tag to be retrieved.
+     * @return The tag with its tasks.
+     */
+    @GetMapping("/{tagId}")
+    public Mono<ResponseEntity<Object>> getTagWithTasks(@PathVariable("tagId") Long tagId) {
+        return tagService.getTagWithTasks(tagId)
+                .map(tagWithTasks -> ResponseHandler.ResponseBuilder("success", HttpStatus.OK, tagWithTasks));
+    }
+
+    /**
+     * Retrieves a page of tags with their task counts, or the tags created on a date.
+     *
+     * @param dateCreated Optional creation date filter.
+     * @param page The zero-based page number.
+     * @param size The page size, capped by the server.
+     * @param sort The sort order: id, name or count.
+     * @return The tags.
+     */
+    @GetMapping()
+    public Mono<ResponseEntity<Object>> getAllTags(@RequestParam(required = false)
+                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateCreated,
+                                                   @RequestParam(defaultValue = "0") int page,
+                                                   @RequestParam(required = false) Integer size,
+                                                   @RequestParam(required = false) String sort) {
+        if (dateCreated == null) {
+            return tagService.getTagsWithTaskCounts(page, size, sort)
+                    .map(tags -> ResponseHandler.ResponseBuilder("All tags with task count", HttpStatus.OK, tags));
+        }
+        return tagService.getTagsByDateCreated(dateCreated)
+                .map(tags -> ResponseHandler.ResponseBuilder("Filtered by date", HttpStatus.OK, tags));
+    }
+}
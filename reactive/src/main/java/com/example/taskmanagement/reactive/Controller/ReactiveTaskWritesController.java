@@ -0,0 +1,64 @@
+package com.example.taskmanagement.reactive.Controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.reactive.Service.ReactiveTaskService;
+import com.example.taskmanagement.response.ResponseHandler;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive controller for the /tasks write routes, only registered with
+ * {@code reactive.writes.enabled=true}. These writes bypass the in-memory
+ * state of the servlet build (indexes, caches, ETags, the change feed, due
+ * counts and reminders), so they must not be enabled against a database the
+ * servlet build serves.
+ */
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RequestMapping("/tasks")
+@AllArgsConstructor
+@RestController
+@ConditionalOnProperty(name = "reactive.writes.enabled", havingValue = "true")
+public class ReactiveTaskWritesController {
+
+  private ReactiveTaskService taskService;
+
+  /**
+   * Creates a task with at least one tag.
+   */
+  @PostMapping("/create/")
+  public Mono<ResponseEntity<Object>> createTask(@RequestBody Task task) {
+    return taskService.createTask(task)
+        .map(created -> ResponseHandler.ResponseBuilder("Task created successfully", HttpStatus.CREATED, created));
+  }
+
+  /**
+   * Updates a task with at least one tag.
+   */
+  @PutMapping("/update/{taskId}")
+  public Mono<ResponseEntity<Object>> updateTask(@PathVariable("taskId") Long id, @RequestBody Task updatedTask) {
+    return taskService.updateTask(id, updatedTask)
+        .map(updated -> ResponseHandler.ResponseBuilder("Update success", HttpStatus.OK, updated));
+  }
+
+  /**
+   * Deletes a task by its ID.
+   */
+  @DeleteMapping("/delete/{taskId}")
+  public Mono<ResponseEntity<String>> deleteTask(@PathVariable("taskId") Long id) {
+    return taskService.deleteTask(id)
+        .thenReturn(ResponseEntity.ok("Task deleted successfully"));
+  }
+}
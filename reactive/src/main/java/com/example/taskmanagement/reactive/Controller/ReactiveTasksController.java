@@ -0,0 +1,43 @@
+package com.example.taskmanagement.reactive.Controller;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.taskmanagement.reactive.Service.ReactiveTaskService;
+import com.example.taskmanagement.response.ResponseHandler;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive controller for the /tasks read routes, with the payloads and
+ * response envelope of {@code TasksController}. The write routes are in
+ * {@link ReactiveTaskWritesController}.
+ */
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RequestMapping("/tasks")
+@AllArgsConstructor
+@RestController
+public class ReactiveTasksController {
+
+  private ReactiveTaskService taskService;
+
+  /**
+   * Retrieves a page of tasks ordered by id, optionally filtered by completion status.
+   * Pass the returned nextCursor as 'after' to get the next page.
+   */
+  @GetMapping()
+  public Mono<ResponseEntity<Object>> getTasks(@RequestParam(required = false) Boolean completed,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String after) {
+    return taskService.getTasksPage(Optional.ofNullable(completed), limit, after)
+        .map(tasks -> ResponseHandler.ResponseBuilder("success", HttpStatus.OK, tasks));
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.taskmanagement.reactive;
+
+import com.example.taskmanagement.configuration.PaginationProperties;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+/**
+ * Non-blocking build of the Task-Tags API on WebFlux and R2DBC. It serves the
+ * same routes, payloads and response envelope as the servlet build, against
+ * the same tables.
+ *
+ * <p>Against a database the servlet build serves, only the read routes are
+ * supported: the servlet build keeps indexes, caches, ETags, due counts and
+ * reminders in memory and only sees its own writes. The write routes are
+ * registered with {@code reactive.writes.enabled=true}, for a database this
+ * build uses alone.</p>
+ */
+@EnableConfigurationProperties(PaginationProperties.class)
+@SpringBootApplication
+public class ReactiveApplication {
+
+  public static void main(String[] args) {
+    SpringApplication.run(ReactiveApplication.class, args);
+  }
+
+}
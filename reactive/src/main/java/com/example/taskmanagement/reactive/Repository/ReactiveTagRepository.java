@@ -0,0 +1,169 @@
+package com.example.taskmanagement.reactive.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+
+import com.example.taskmanagement.DTO.TagDTO;
+import com.example.taskmanagement.Model.Tag;
+
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@code TagRepository}, on the same tags and task_tag
+ * tables and with the same statements for the upsert and the task counters.
+ */
+@AllArgsConstructor
+@Repository
+public class ReactiveTagRepository {
+
+    private static final String TAG_COLUMNS = "SELECT id, name, date_created, task_count, version FROM tags ";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * @param id The tag id.
+     * @return The tag, or empty when it does not exist.
+     */
+    public Mono<Tag> findById(final long id) {
+        return databaseClient.sql(TAG_COLUMNS + "WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveTagRepository::toTag)
+                .one();
+    }
+
+    /**
+     * @param names The names of the tags to find.
+     * @return The tags that exist.
+     */
+    public Flux<Tag> findByNameIn(final Collection<String> names) {
+        return databaseClient.sql(TAG_COLUMNS + "WHERE name IN (:names)")
+                .bind("names", names)
+                .map(ReactiveTagRepository::toTag)
+                .all();
+    }
+
+    /**
+     * Finds tags by name with a locking read, which sees rows committed by other
+     * transactions after the current snapshot; used right after
+     * {@link #upsertTags(Collection)} skipped such rows.
+     *
+     * @param names The names of the tags to find.
+     * @return The tags that exist.
+     */
+    public Flux<Tag> findCurrentByNameIn(final Collection<String> names) {
+        return databaseClient.sql(TAG_COLUMNS + "WHERE name IN (:names) FOR UPDATE")
+                .bind("names", names)
+                .map(ReactiveTagRepository::toTag)
+                .all();
+    }
+
+    /**
+     * Inserts the tags that do not exist yet, skipping names inserted
+     * concurrently, in name order so concurrent batches can not deadlock.
+     *
+     * @param tags The tags to insert.
+     * @return Completion.
+     */
+    public Mono<Void> upsertTags(final Collection<Tag> tags) {
+        return Flux.fromIterable(tags)
+                .sort(Comparator.comparing(Tag::getName))
+                .concatMap(tag -> {
+                    final DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                                    "INSERT INTO tags (name, date_created, task_count, version) "
+                                            + "VALUES (:name, :dateCreated, 0, 0) ON DUPLICATE KEY UPDATE name = name")
+                            .bind("name", tag.getName());
+                    return (tag.getDateCreated() == null
+                            ? spec.bindNull("dateCreated", LocalDate.class)
+                            : spec.bind("dateCreated", tag.getDateCreated()))
+                            .fetch().rowsUpdated();
+                })
+                .then();
+    }
+
+    /**
+     * Applies the deltas as {@code task_count = task_count + ?}, in id order so
+     * that two transactions touching the same tags lock them in the same order.
+     *
+     * @param deltas The count change per tag id.
+     * @return Completion.
+     */
+    public Mono<Void> adjustTaskCounts(final Map<Long, Long> deltas) {
+        return Flux.fromIterable(deltas.entrySet())
+                .filter(entry -> entry.getValue() != 0)
+                .sort(Map.Entry.comparingByKey())
+                .concatMap(entry -> databaseClient.sql("UPDATE tags SET task_count = task_count + :delta WHERE id = :id")
+                        .bind("delta", entry.getValue())
+                        .bind("id", entry.getKey())
+                        .fetch().rowsUpdated())
+                .then();
+    }
+
+    /**
+     * @param tagId The tag id.
+     * @return The ids of the tasks carrying the tag, in id order.
+     */
+    public Flux<Long> findTaskIdsByTagId(final long tagId) {
+        return databaseClient.sql("SELECT task_id FROM task_tag WHERE tag_id = :tagId ORDER BY task_id")
+                .bind("tagId", tagId)
+                .map(row -> row.get("task_id", Long.class))
+                .all();
+    }
+
+    /**
+     * Reads a page of tags with their maintained task counts.
+     *
+     * @param page    The zero-based page number.
+     * @param size    The page size.
+     * @param orderBy The ORDER BY clause, chosen by the service from a fixed set.
+     * @return The tags of the page.
+     */
+    public Flux<TagDTO> findTagStatistics(final int page, final int size, final String orderBy) {
+        return databaseClient.sql("SELECT id, name, task_count, date_created FROM tags ORDER BY " + orderBy
+                        + " LIMIT :limit OFFSET :offset")
+                .bind("limit", size)
+                .bind("offset", (long) page * size)
+                .map(row -> new TagDTO(row.get("id", Long.class), row.get("name", String.class),
+                        row.get("task_count", Long.class), row.get("date_created", LocalDate.class)))
+                .all();
+    }
+
+    /**
+     * @param dateCreated The creation date.
+     * @return The tags created on that date.
+     */
+    public Flux<Tag> findTagsByDateCreated(final LocalDate dateCreated) {
+        return databaseClient.sql(TAG_COLUMNS + "WHERE date_created = :dateCreated")
+                .bind("dateCreated", dateCreated)
+                .map(ReactiveTagRepository::toTag)
+                .all();
+    }
+
+    /**
+     * Deletes a tag and its task links. The tasks that carried it get a new
+     * version, as a tag change of the entity would.
+     *
+     * @param tagId The tag id.
+     * @return Completion.
+     */
+    public Mono<Void> delete(final long tagId) {
+        return databaseClient.sql("UPDATE tasks SET version = version + 1 "
+                        + "WHERE id IN (SELECT task_id FROM task_tag WHERE tag_id = :tagId)")
+                .bind("tagId", tagId)
+                .then()
+                .then(databaseClient.sql("DELETE FROM task_tag WHERE tag_id = :tagId").bind("tagId", tagId).then())
+                .then(databaseClient.sql("DELETE FROM tags WHERE id = :tagId").bind("tagId", tagId).then());
+    }
+
+    private static Tag toTag(final Readable row) {
+        return new Tag(row.get("id", Long.class), row.get("name", String.class),
+                row.get("date_created", LocalDate.class), row.get("task_count", Long.class),
+                row.get("version", Long.class));
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.taskmanagement.reactive.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.TagViewDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+
+import lombok.AllArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@code TaskRepository}, on the same tasks and
+ * task_tag tables. Reads return the scalar read models directly; writes keep
+ * the version column of the entity in step like the servlet build does. The
+ * writes are only reachable with {@code reactive.writes.enabled}, see
+ * {@code ReactiveApplication}.
+ */
+@AllArgsConstructor
+@Repository
+public class ReactiveTaskRepository {
+
+    private static final String TASK_WITH_TAGS_SQL = "SELECT t.id, t.tittle, t.completed, t.due_date, t.version, "
+            + "g.id AS tag_id, g.name, g.date_created, g.version AS tag_version "
+            + "FROM tasks t LEFT JOIN task_tag tt ON tt.task_id = t.id LEFT JOIN tags g ON g.id = tt.tag_id ";
+
+    private final DatabaseClient databaseClient;
+    private final TaskIdAllocator taskIdAllocator;
+
+    /**
+     * @param afterId The id to continue after, 0 for the first page.
+     * @param limit   The maximum number of ids.
+     * @return The ids of the next page, in id order.
+     */
+    public Flux<Long> findIdPageAfter(final long afterId, final int limit) {
+        return databaseClient.sql("SELECT id FROM tasks WHERE id > :afterId ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(row -> row.get("id", Long.class))
+                .all();
+    }
+
+    /**
+     * @param completed The completion status to filter by.
+     * @param afterId   The id to continue after, 0 for the first page.
+     * @param limit     The maximum number of ids.
+     * @return The ids of the next page of tasks with that status, in id order.
+     */
+    public Flux<Long> findIdPageByCompletedAfter(final boolean completed, final long afterId, final int limit) {
+        return databaseClient.sql("SELECT id FROM tasks WHERE completed = :completed AND id > :afterId "
+                        + "ORDER BY id LIMIT :limit")
+                .bind("completed", completed)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(row -> row.get("id", Long.class))
+                .all();
+    }
+
+    /**
+     * Loads the read models of the given tasks with one query.
+     *
+     * @param ids The task ids.
+     * @return The tasks in the order of the ids, each with its tags sorted by
+     *         id; unknown ids are skipped.
+     */
+    public Mono<List<TaskViewDTO>> findViewsByIds(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return databaseClient.sql("SELECT t.id, t.tittle, t.completed, t.due_date, t.version, "
+                        + "g.id AS tag_id, g.name, g.date_created, g.version AS tag_version "
+                        + "FROM tasks t LEFT JOIN task_tag tt ON tt.task_id = t.id LEFT JOIN tags g ON g.id = tt.tag_id "
+                        + "WHERE t.id IN (:ids)")
+                .bind("ids", ids)
+                .map(row -> new ViewRow(
+                        new TaskViewDTO(row.get("id", Long.class), row.get("tittle", String.class),
+                                Boolean.TRUE.equals(row.get("completed", Boolean.class)),
+                                row.get("due_date", LocalDate.class), new ArrayList<>(),
+                                row.get("version", Long.class)),
+                        row.get("tag_id", Long.class) == null ? null
+                                : new TagViewDTO(row.get("tag_id", Long.class), row.get("name", String.class),
+                                        row.get("date_created", LocalDate.class),
+                                        row.get("tag_version", Long.class))))
+                .all()
+                .collectList()
+                .map(rows -> {
+                    final Map<Long, TaskViewDTO> byId = new HashMap<>();
+                    for (final ViewRow row : rows) {
+                        final TaskViewDTO task = byId.computeIfAbsent(row.task().id(), id -> row.task());
+                        if (row.tag() != null) {
+                            task.tags().add(row.tag());
+                        }
+                    }
+                    final List<TaskViewDTO> views = new ArrayList<>(ids.size());
+                    for (final Long id : ids) {
+                        final TaskViewDTO task = byId.get(id);
+                        if (task != null) {
+                            task.tags().sort(Comparator.comparing(TagViewDTO::id));
+                            views.add(task);
+                        }
+                    }
+                    return views;
+                });
+    }
+
+    /**
+     * @param id The task id.
+     * @return The task with its tags, or empty when it does not exist.
+     */
+    public Mono<Task> findByTaskId(final long id) {
+        return databaseClient.sql(TASK_WITH_TAGS_SQL + "WHERE t.id = :id")
+                .bind("id", id)
+                .map(row -> new TaskRow(row.get("id", Long.class), row.get("tittle", String.class),
+                        Boolean.TRUE.equals(row.get("completed", Boolean.class)), row.get("due_date", LocalDate.class),
+                        row.get("version", Long.class), row.get("tag_id", Long.class), row.get("name", String.class),
+                        row.get("date_created", LocalDate.class), row.get("tag_version", Long.class)))
+                .all()
+                .collectList()
+                .flatMap(rows -> rows.isEmpty() ? Mono.empty() : Mono.just(toTask(rows)));
+    }
+
+    /**
+     * Inserts a task and its tag links, assigning the id.
+     *
+     * @param task The task, whose tags are persisted.
+     * @return The task with its id and version set.
+     */
+    public Mono<Task> insert(final Task task) {
+        return taskIdAllocator.nextId()
+                .flatMap(id -> bindDueDate(databaseClient.sql("INSERT INTO tasks (id, tittle, completed, due_date, version) "
+                                + "VALUES (:id, :tittle, :completed, :dueDate, 0)")
+                        .bind("id", id)
+                        .bind("completed", task.isCompleted()), task)
+                        .fetch().rowsUpdated()
+                        .thenReturn(id))
+                .flatMap(id -> {
+                    task.setId(id);
+                    task.setVersion(0);
+                    return insertTagLinks(id, tagIds(task.getTags())).thenReturn(task);
+                });
+    }
+
+    /**
+     * Updates the columns of a task if its version is still the one it was read with.
+     *
+     * @param task The task with the version it was read with.
+     * @return The task with the incremented version.
+     * @throws OptimisticLockingFailureException (signalled) If the row was
+     *         changed or deleted in the meantime.
+     */
+    public Mono<Task> update(final Task task) {
+        return bindDueDate(databaseClient.sql("UPDATE tasks SET tittle = :tittle, completed = :completed, "
+                        + "due_date = :dueDate, version = version + 1 WHERE id = :id AND version = :version")
+                .bind("completed", task.isCompleted())
+                .bind("id", task.getId())
+                .bind("version", task.getVersion()), task)
+                .fetch().rowsUpdated()
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        return Mono.error(new OptimisticLockingFailureException(
+                                "Task " + task.getId() + " was modified by another request"));
+                    }
+                    task.setVersion(task.getVersion() + 1);
+                    return Mono.just(task);
+                });
+    }
+
+    /**
+     * Replaces the tag links of a task with only the rows that changed.
+     *
+     * @param taskId         The task id.
+     * @param previousTagIds The tag ids linked before.
+     * @param tagIds         The tag ids to link.
+     * @return Completion.
+     */
+    public Mono<Void> replaceTagLinks(final long taskId, final Set<Long> previousTagIds, final Set<Long> tagIds) {
+        final Set<Long> removed = new HashSet<>(previousTagIds);
+        removed.removeAll(tagIds);
+        final Set<Long> added = new HashSet<>(tagIds);
+        added.removeAll(previousTagIds);
+        final Mono<Void> delete = removed.isEmpty() ? Mono.empty()
+                : databaseClient.sql("DELETE FROM task_tag WHERE task_id = :taskId AND tag_id IN (:tagIds)")
+                        .bind("taskId", taskId)
+                        .bind("tagIds", removed)
+                        .then();
+        return delete.then(insertTagLinks(taskId, added));
+    }
+
+    /**
+     * Deletes a task and its tag links.
+     *
+     * @param taskId The task id.
+     * @return Completion.
+     */
+    public Mono<Void> delete(final long taskId) {
+        return databaseClient.sql("DELETE FROM task_tag WHERE task_id = :taskId")
+                .bind("taskId", taskId)
+                .then()
+                .then(databaseClient.sql("DELETE FROM tasks WHERE id = :taskId")
+                        .bind("taskId", taskId)
+                        .then());
+    }
+
+    private Mono<Void> insertTagLinks(final long taskId, final Set<Long> tagIds) {
+        return Flux.fromIterable(tagIds)
+                .sort()
+                .concatMap(tagId -> databaseClient.sql("INSERT INTO task_tag (task_id, tag_id) VALUES (:taskId, :tagId)")
+                        .bind("taskId", taskId)
+                        .bind("tagId", tagId)
+                        .fetch().rowsUpdated())
+                .then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindDueDate(final DatabaseClient.GenericExecuteSpec spec,
+                                                                 final Task task) {
+        final DatabaseClient.GenericExecuteSpec withTitle = task.getTittle() == null
+                ? spec.bindNull("tittle", String.class)
+                : spec.bind("tittle", task.getTittle());
+        return task.getDueDate() == null
+                ? withTitle.bindNull("dueDate", LocalDate.class)
+                : withTitle.bind("dueDate", task.getDueDate());
+    }
+
+    private static Task toTask(final List<TaskRow> rows) {
+        final TaskRow first = rows.get(0);
+        final Task task = new Task();
+        task.setId(first.id());
+        task.setTittle(first.tittle());
+        task.setCompleted(first.completed());
+        task.setDueDate(first.dueDate());
+        task.setVersion(first.version());
+        final Set<Tag> tags = new HashSet<>();
+        for (final TaskRow row : rows) {
+            if (row.tagId() != null) {
+                tags.add(new Tag(row.tagId(), row.name(), row.dateCreated(), 0, row.tagVersion()));
+            }
+        }
+        task.setTags(tags);
+        return task;
+    }
+
+    private static Set<Long> tagIds(final Set<Tag> tags) {
+        final Set<Long> ids = new HashSet<>();
+        tags.forEach(tag -> ids.add(tag.getId()));
+        return ids;
+    }
+
+    private record ViewRow(TaskViewDTO task, TagViewDTO tag) {
+    }
+
+    private record TaskRow(Long id, String tittle, boolean completed, LocalDate dueDate, long version,
+                           Long tagId, String name, LocalDate dateCreated, Long tagVersion) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.taskmanagement.reactive.Repository;
+
+import java.util.Locale;
+
+import com.example.taskmanagement.Model.Task;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hands out task ids from tasks_seq with the semantics of Hibernate's pooled
+ * optimizer used by the servlet build: a value v read from the sequence
+ * reserves the block of ids {@code (v - Task.TASK_ID_ALLOCATION_SIZE, v]}, so
+ * ids stay unique if the servlet build later takes over the database. The
+ * two builds must not write to the same database at the same time, see
+ * {@code ReactiveApplication}.
+ *
+ * <p>On MySQL the sequence is the table Hibernate uses to emulate it, read and
+ * advanced in one statement with {@code LAST_INSERT_ID(expr)}.</p>
+ */
+@Component
+class TaskIdAllocator {
+
+    private static final int BLOCK_SIZE = Task.TASK_ID_ALLOCATION_SIZE;
+
+    private final DatabaseClient databaseClient;
+    private final boolean mysql;
+    private final Object lock = new Object();
+    /** Next id to hand out and last id of the current block, guarded by {@code lock}. */
+    private long next = 1;
+    private long hi;
+
+    TaskIdAllocator(final DatabaseClient databaseClient, final ConnectionFactory connectionFactory) {
+        this.databaseClient = databaseClient;
+        this.mysql = connectionFactory.getMetadata().getName().toLowerCase(Locale.ROOT).contains("mysql");
+    }
+
+    /**
+     * @return The next unused task id.
+     */
+    Mono<Long> nextId() {
+        synchronized (lock) {
+            if (next <= hi) {
+                return Mono.just(next++);
+            }
+        }
+        return fetchHighValue().map(value -> {
+            synchronized (lock) {
+                // A concurrent fetch may have refilled the block already; this block is then skipped
+                if (next > hi) {
+                    next = Math.max(1, value - BLOCK_SIZE + 1);
+                    hi = value;
+                }
+                return next++;
+            }
+        });
+    }
+
+    private Mono<Long> fetchHighValue() {
+        if (!mysql) {
+            return databaseClient.sql("SELECT NEXT VALUE FOR tasks_seq")
+                    .map(row -> row.get(0, Number.class).longValue())
+                    .one();
+        }
+        // Both statements must run on the same connection for LAST_INSERT_ID()
+        return databaseClient.inConnection(connection ->
+                Mono.from(connection.createStatement("UPDATE tasks_seq SET next_val = LAST_INSERT_ID(next_val + ?)")
+                                .bind(0, BLOCK_SIZE)
+                                .execute())
+                        .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                        .then(Mono.from(connection.createStatement("SELECT LAST_INSERT_ID()").execute()))
+                        .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Number.class))))
+                        .map(advanced -> advanced.longValue() - BLOCK_SIZE));
+    }
+}
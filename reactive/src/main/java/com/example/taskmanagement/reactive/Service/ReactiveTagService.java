@@ -0,0 +1,107 @@
+package com.example.taskmanagement.reactive.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.TagDTO;
+import com.example.taskmanagement.DTO.TagWithTasksDTO;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.configuration.PaginationProperties;
+import com.example.taskmanagement.exception.types.ResourceNotFoundException;
+import com.example.taskmanagement.exception.types.ValidationException;
+import com.example.taskmanagement.reactive.Repository.ReactiveTagRepository;
+import com.example.taskmanagement.reactive.Repository.ReactiveTaskRepository;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@code TagService}.
+ */
+@AllArgsConstructor
+@Service
+public class ReactiveTagService {
+
+    private final ReactiveTagRepository tagRepository;
+    private final ReactiveTaskRepository taskRepository;
+    private final ReactiveTaskService taskService;
+    private final PaginationProperties paginationProperties;
+
+    /**
+     * Creates the tags that do not exist yet.
+     *
+     * @param tags The tags to create.
+     * @return The persisted tags.
+     */
+    @Transactional
+    public Mono<Set<Tag>> createTags(final Set<Tag> tags) {
+        return taskService.processedTag(tags);
+    }
+
+    /**
+     * Retrieves a tag with the read models of its tasks.
+     *
+     * @param tagId The id of the tag.
+     * @return The tag with its tasks.
+     */
+    @Transactional(readOnly = true)
+    public Mono<TagWithTasksDTO> getTagWithTasks(final Long tagId) {
+        return tagRepository.findById(tagId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Tag not found with ID: " + tagId)))
+                .flatMap(tag -> tagRepository.findTaskIdsByTagId(tagId)
+                        .collectList()
+                        .flatMap(taskRepository::findViewsByIds)
+                        .map(tasks -> new TagWithTasksDTO(tag.getId(), tag.getName(), tasks)));
+    }
+
+    /**
+     * Retrieves a page of tags with their task counts.
+     *
+     * @param page The zero-based page number.
+     * @param size The requested page size, clamped to the configured maximum.
+     * @param sort The sort order: "id" (default), "name", or "count" (most used first).
+     * @return The tags of the page.
+     */
+    @Transactional(readOnly = true)
+    public Mono<List<TagDTO>> getTagsWithTaskCounts(final int page, final Integer size, final String sort) {
+        if (page < 0) {
+            return Mono.error(new ValidationException("Page number must not be negative"));
+        }
+        final String orderBy;
+        if (sort == null || sort.equals("id")) {
+            orderBy = "id";
+        } else if (sort.equals("name")) {
+            orderBy = "name, id";
+        } else if (sort.equals("count")) {
+            orderBy = "task_count DESC, id";
+        } else {
+            return Mono.error(new ValidationException("Unsupported sort '" + sort + "', expected one of id, name, count"));
+        }
+        return tagRepository.findTagStatistics(page, paginationProperties.resolve(size), orderBy).collectList();
+    }
+
+    /**
+     * @param dateCreated The creation date.
+     * @return The tags created on that date.
+     */
+    @Transactional(readOnly = true)
+    public Mono<List<Tag>> getTagsByDateCreated(final LocalDate dateCreated) {
+        return tagRepository.findTagsByDateCreated(dateCreated).collectList();
+    }
+
+    /**
+     * Deletes a tag without affecting its tasks, which only lose the tag.
+     *
+     * @param tagId The id of the tag.
+     * @return Completion.
+     */
+    @Transactional
+    public Mono<Void> deleteTag(final Long tagId) {
+        return tagRepository.findById(tagId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Tag not found with ID: " + tagId)))
+                .flatMap(tag -> tagRepository.delete(tag.getId()));
+    }
+}
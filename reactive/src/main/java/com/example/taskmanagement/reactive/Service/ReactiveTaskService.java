@@ -0,0 +1,201 @@
+package com.example.taskmanagement.reactive.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.CursorPageDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Service.CursorCodec;
+import com.example.taskmanagement.configuration.PaginationProperties;
+import com.example.taskmanagement.exception.types.ResourceNotFoundException;
+import com.example.taskmanagement.exception.types.ValidationException;
+import com.example.taskmanagement.reactive.Repository.ReactiveTagRepository;
+import com.example.taskmanagement.reactive.Repository.ReactiveTaskRepository;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@code TaskService}: the same validation, tag
+ * resolution and task counter maintenance, with every statement issued
+ * without blocking. Transactions are Spring's reactive transactions, which
+ * follow the subscription rather than the thread.
+ */
+@AllArgsConstructor
+@Service
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepository taskRepository;
+    private final ReactiveTagRepository tagRepository;
+    private final PaginationProperties paginationProperties;
+
+    /**
+     * Creates a task with at least one tag, creating the tags that do not exist.
+     *
+     * @param task The task to create.
+     * @return The created task.
+     */
+    @Transactional
+    public Mono<Task> createTask(final Task task) {
+        return processedTag(task.getTags())
+                .flatMap(savedTags -> {
+                    if (savedTags.isEmpty()) {
+                        return Mono.error(new ValidationException("Please provide at least one tag"));
+                    }
+                    task.setTags(savedTags);
+                    return taskRepository.insert(task)
+                            .flatMap(saved -> adjustTagCounts(Set.of(), savedTags).thenReturn(saved));
+                });
+    }
+
+    /**
+     * Replaces the fields and tags of a task.
+     *
+     * @param id          The id of the task.
+     * @param updatedTask The new state of the task.
+     * @return The updated task.
+     */
+    @Transactional
+    public Mono<Task> updateTask(final Long id, final Task updatedTask) {
+        return taskRepository.findByTaskId(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task with id " + id + " not found")))
+                .flatMap(existingTask -> processedTag(updatedTask.getTags())
+                        .flatMap(savedTags -> {
+                            if (savedTags.isEmpty()) {
+                                return Mono.error(new ValidationException("Please provide at least one tag"));
+                            }
+                            final Set<Tag> previousTags = existingTask.getTags();
+                            existingTask.setTittle(updatedTask.getTittle());
+                            existingTask.setCompleted(updatedTask.isCompleted());
+                            existingTask.setDueDate(updatedTask.getDueDate());
+                            existingTask.setTags(savedTags);
+                            return taskRepository.update(existingTask)
+                                    .then(taskRepository.replaceTagLinks(id, tagIds(previousTags), tagIds(savedTags)))
+                                    .then(adjustTagCounts(previousTags, savedTags))
+                                    .thenReturn(existingTask);
+                        }));
+    }
+
+    /**
+     * Deletes a task and releases its tags.
+     *
+     * @param id The id of the task.
+     * @return Completion.
+     */
+    @Transactional
+    public Mono<Void> deleteTask(final Long id) {
+        return taskRepository.findByTaskId(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task with id " + id + " not found")))
+                .flatMap(task -> adjustTagCounts(task.getTags(), Set.of())
+                        .then(taskRepository.delete(task.getId())));
+    }
+
+    /**
+     * Retrieves one page of tasks ordered by id, optionally filtered by status.
+     *
+     * @param isCompleted The completion status to filter by, if any.
+     * @param limit       The requested page size, clamped to the configured maximum.
+     * @param after       The cursor returned with the previous page.
+     * @return The page and the cursor of the next one.
+     */
+    @Transactional(readOnly = true)
+    public Mono<CursorPageDTO<TaskViewDTO>> getTasksPage(final Optional<Boolean> isCompleted, final Integer limit,
+                                                         final String after) {
+        final int pageSize = paginationProperties.resolve(limit);
+        final long afterId;
+        try {
+            afterId = CursorCodec.decode(after);
+        } catch (ValidationException e) {
+            return Mono.error(e);
+        }
+        final Flux<Long> ids = isCompleted.isPresent()
+                ? taskRepository.findIdPageByCompletedAfter(isCompleted.get(), afterId, pageSize + 1)
+                : taskRepository.findIdPageAfter(afterId, pageSize + 1);
+        return ids.collectList().flatMap(page -> {
+            final String nextCursor;
+            final List<Long> pageIds;
+            if (page.size() > pageSize) {
+                pageIds = page.subList(0, pageSize);
+                nextCursor = CursorCodec.encode(pageIds.get(pageSize - 1));
+            } else {
+                pageIds = page;
+                nextCursor = null;
+            }
+            return taskRepository.findViewsByIds(pageIds)
+                    .map(views -> new CursorPageDTO<>(views, nextCursor, pageSize));
+        });
+    }
+
+    /**
+     * Resolves tags by name, case-insensitively, inserting the ones that do not
+     * exist yet. Unlike the servlet build there is no in-process name cache, so
+     * every call reads the tags table once.
+     *
+     * @param tags The requested tags; only their names are used.
+     * @return The persisted tags, one per distinct name.
+     */
+    public Mono<Set<Tag>> processedTag(final Set<Tag> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        final Map<String, Tag> requested = new LinkedHashMap<>();
+        for (final Tag tag : tags) {
+            if (tag.getName() == null || tag.getName().isBlank()) {
+                return Mono.error(new ValidationException("Tag name must not be empty"));
+            }
+            requested.putIfAbsent(key(tag.getName()), tag);
+        }
+        final Map<String, Tag> resolved = new HashMap<>();
+        return tagRepository.findByNameIn(names(requested.values()))
+                .doOnNext(existing -> resolved.put(key(existing.getName()), existing))
+                .then(Mono.defer(() -> {
+                    final Map<String, Tag> missing = new LinkedHashMap<>(requested);
+                    missing.keySet().removeAll(resolved.keySet());
+                    if (missing.isEmpty()) {
+                        return Mono.<Set<Tag>>just(new HashSet<>(resolved.values()));
+                    }
+                    return tagRepository.upsertTags(missing.values())
+                            .thenMany(tagRepository.findCurrentByNameIn(names(missing.values())))
+                            .doOnNext(created -> resolved.put(key(created.getName()), created))
+                            .then(Mono.fromSupplier(() -> new HashSet<>(resolved.values())));
+                }));
+    }
+
+    private Mono<Void> adjustTagCounts(final Set<Tag> previousTags, final Set<Tag> currentTags) {
+        final Map<Long, Long> deltas = new HashMap<>();
+        tagIds(previousTags).forEach(tagId -> deltas.merge(tagId, -1L, Long::sum));
+        tagIds(currentTags).forEach(tagId -> deltas.merge(tagId, 1L, Long::sum));
+        return tagRepository.adjustTaskCounts(deltas);
+    }
+
+    private static Set<Long> tagIds(final Set<Tag> tags) {
+        final Set<Long> ids = new HashSet<>();
+        tags.forEach(tag -> ids.add(tag.getId()));
+        return ids;
+    }
+
+    private static Set<String> names(final Collection<Tag> tags) {
+        final Set<String> names = new HashSet<>();
+        tags.forEach(tag -> names.add(tag.getName()));
+        return names;
+    }
+
+    /**
+     * Same normalization as {@code TagNameCache.key} of the servlet build.
+     */
+    private static String key(final String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.taskmanagement.reactive.configuration;
+
+import java.time.LocalDateTime;
+
+import com.example.taskmanagement.DTO.ErrorResponse;
+import com.example.taskmanagement.exception.types.ResourceNotFoundException;
+import com.example.taskmanagement.exception.types.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+/**
+ * Maps exceptions to the error responses of {@code GlobalExceptionHandler}.
+ */
+@ControllerAdvice
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFound(ResourceNotFoundException ex,
+                                                                ServerHttpRequest request) {
+        log.warn("Resource not found: {}", ex.getMessage());
+        return errorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(ValidationException ex,
+                                                                   ServerHttpRequest request) {
+        log.error("Validation error: {}", ex.getMessage());
+        return errorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex,
+                                                                      ServerHttpRequest request) {
+        log.error("Data integrity violation: {}", ex.getMessage());
+        return errorResponse(HttpStatus.CONFLICT, "A data integrity violation occurred", request);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex,
+                                                                        ServerHttpRequest request) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return errorResponse(HttpStatus.CONFLICT, "The resource was modified by another request, please retry",
+                request);
+    }
+
+    private static ResponseEntity<ErrorResponse> errorResponse(HttpStatus status, String message,
+                                                               ServerHttpRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getPath().value())
+                .build();
+        return new ResponseEntity<>(errorResponse, status);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.taskmanagement.reactive.configuration;
+
+import java.time.Duration;
+
+import com.example.taskmanagement.Service.AuthTokenService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.MapReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import reactor.core.publisher.Mono;
+
+/**
+ * HTTP Basic and bearer token security with the user of the servlet build's
+ * {@code SecurityConfig}. Password checks run on a bounded elastic scheduler,
+ * off the event loop; bearer tokens are verified with the same
+ * {@link AuthTokenService}, so a token issued by either build is accepted by
+ * the other when both share {@code auth.token.secret}.
+ */
+@EnableWebFluxSecurity
+@Configuration
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, AuthTokenService authTokenService,
+                                                         ReactiveUserDetailsService userDetailsService) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers("/tasks", "/tags", "/tasks/**", "/tags/**").authenticated()
+                        .pathMatchers("/auth/**").authenticated()
+                        .pathMatchers("/actuator/health").permitAll()
+                        .pathMatchers("/actuator/**").authenticated()
+                        .anyExchange().permitAll())
+                .httpBasic(basic -> { })
+                .addFilterAt(bearerTokenFilter(authTokenService, userDetailsService),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    @Bean
+    public AuthTokenService authTokenService(@Value("${auth.token.secret:}") String secret,
+                                             @Value("${auth.token.ttl:15m}") Duration ttl) {
+        return new AuthTokenService(secret, ttl);
+    }
+
+    /**
+     * Authenticates 'Authorization: Bearer' requests; other requests pass
+     * through to HTTP Basic.
+     */
+    private static AuthenticationWebFilter bearerTokenFilter(AuthTokenService authTokenService,
+                                                             ReactiveUserDetailsService userDetailsService) {
+        ReactiveAuthenticationManager authenticationManager = authentication ->
+                Mono.justOrEmpty(authTokenService.verify((String) authentication.getCredentials()))
+                        .switchIfEmpty(Mono.error(new BadCredentialsException("Invalid or expired bearer token")))
+                        .flatMap(userDetailsService::findByUsername)
+                        .map(user -> UsernamePasswordAuthenticationToken.authenticated(user, null,
+                                user.getAuthorities()));
+        AuthenticationWebFilter filter = new AuthenticationWebFilter(authenticationManager);
+        filter.setServerAuthenticationConverter(exchange -> {
+            String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            String prefix = AuthTokenService.TOKEN_TYPE + " ";
+            if (header == null || !header.startsWith(prefix)) {
+                return Mono.empty();
+            }
+            String token = header.substring(prefix.length()).trim();
+            return Mono.just(UsernamePasswordAuthenticationToken.unauthenticated(null, token));
+        });
+        return filter;
+    }
+
+    @Bean
+    public MapReactiveUserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
+        UserDetails user = User.builder()
+                .username("username")
+                .password(passwordEncoder.encode("password"))
+                .roles("USER")
+                .build();
+        return new MapReactiveUserDetailsService(user);
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.taskmanagement.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Runs the task and tag routes of the reactive build against an embedded H2
+ * database.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveApiTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void tasksAndTagsKeepTheServletPayloads() {
+        final JsonNode created = client().post().uri("/tasks/create/")
+                .bodyValue(Map.of("tittle", "reactive", "completed", false,
+                        "tags", List.of(Map.of("name", "rx-a"), Map.of("name", "rx-b"))))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+        assertThat(created.path("message").asText()).isEqualTo("Task created successfully");
+        assertThat(created.path("status").asText()).isEqualTo("CREATED");
+        final long taskId = created.path("data").path("id").asLong();
+        assertThat(created.path("data").path("tags")).hasSize(2);
+
+        final JsonNode page = client().get().uri("/tasks?limit=500")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+        assertThat(page.path("data").path("items")).anySatisfy(item -> {
+            assertThat(item.path("id").asLong()).isEqualTo(taskId);
+            assertThat(item.path("tags")).hasSize(2);
+        });
+
+        final JsonNode updated = client().put().uri("/tasks/update/" + taskId)
+                .bodyValue(Map.of("tittle", "reactive done", "completed", true,
+                        "tags", List.of(Map.of("name", "rx-b"), Map.of("name", "rx-c"))))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+        assertThat(updated.path("data").path("version").asLong()).isEqualTo(1);
+
+        final JsonNode tags = client().get().uri("/tags?size=500")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+        assertThat(count(tags, "rx-a")).isZero();
+        assertThat(count(tags, "rx-b")).isEqualTo(1);
+        assertThat(count(tags, "rx-c")).isEqualTo(1);
+
+        client().delete().uri("/tasks/delete/" + taskId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Task deleted successfully");
+        client().put().uri("/tasks/update/" + taskId)
+                .bodyValue(Map.of("tittle", "gone", "tags", List.of(Map.of("name", "rx-a"))))
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.get().uri("/tasks").exchange().expectStatus().isUnauthorized();
+    }
+
+    private WebTestClient client() {
+        return webTestClient.mutate()
+                .defaultHeaders(headers -> headers.setBasicAuth("username", "password"))
+                .build();
+    }
+
+    private static long count(final JsonNode tags, final String name) {
+        for (final JsonNode tag : tags.path("data")) {
+            if (tag.path("name").asText().equals(name)) {
+                return tag.path("tagTaskCount").asLong();
+            }
+        }
+        return 0;
+    }
+}
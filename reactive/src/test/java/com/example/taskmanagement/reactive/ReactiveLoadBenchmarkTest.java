@@ -0,0 +1,95 @@
+package com.example.taskmanagement.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Measures GET /tasks under the load used by the servlet build's
+ * ThreadModeLoadTest. A benchmark: it only runs with
+ * {@code mvn test -Pbenchmark} and logs its numbers.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveLoadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveLoadBenchmarkTest.class);
+
+    private static final int CLIENTS = 200;
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void servesGetTasksUnderLoad() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            client().post().uri("/tasks/create/")
+                    .bodyValue(Map.of("tittle", "load " + i, "tags", List.of(Map.of("name", "rx-load"))))
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+        final String token = client().post().uri("/auth/login")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody()
+                .path("data").path("token").asText();
+        final WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .build();
+        final Mono<Integer> request = webClient.get().uri("/tasks")
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+
+        // Warm up
+        request.block();
+
+        final List<Long> latencies = new ArrayList<>();
+        final long start = System.nanoTime();
+        final List<Integer> statuses = Flux.range(0, CLIENTS)
+                .flatMap(client -> Flux.range(0, REQUESTS_PER_CLIENT)
+                        .concatMap(i -> Mono.fromSupplier(System::nanoTime)
+                                .flatMap(requestStart -> request.doOnNext(status -> {
+                                    synchronized (latencies) {
+                                        latencies.add(System.nanoTime() - requestStart);
+                                    }
+                                }))), CLIENTS)
+                .collectList()
+                .block(Duration.ofMinutes(5));
+        final long elapsed = System.nanoTime() - start;
+
+        final long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        log.info("reactive: {} requests/s, p99 {} ms", Math.round(sorted.length * 1e9 / elapsed),
+                sorted[(int) (sorted.length * 0.99)] / 1_000_000);
+        assertThat(statuses).hasSize(CLIENTS * REQUESTS_PER_CLIENT).containsOnly(200);
+    }
+
+    private WebTestClient client() {
+        return webTestClient.mutate()
+                .defaultHeaders(headers -> headers.setBasicAuth("username", "password"))
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.taskmanagement.reactive;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Checks that without {@code reactive.writes.enabled}, the default against a
+ * database shared with the servlet build, only the read routes exist.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "reactive.writes.enabled=false")
+class ReactiveReadOnlyTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void writeRoutesAreNotRegistered() {
+        client().post().uri("/tasks/create/")
+                .bodyValue(Map.of("tittle", "read only", "tags", List.of(Map.of("name", "rx-ro"))))
+                .exchange()
+                .expectStatus().isNotFound();
+        client().put().uri("/tasks/update/1")
+                .bodyValue(Map.of("tittle", "read only", "tags", List.of(Map.of("name", "rx-ro"))))
+                .exchange()
+                .expectStatus().isNotFound();
+        client().delete().uri("/tasks/delete/1").exchange().expectStatus().isNotFound();
+        client().post().uri("/tags/create/")
+                .bodyValue(List.of(Map.of("name", "rx-ro")))
+                .exchange()
+                .expectStatus().isNotFound();
+        client().delete().uri("/tags/delete/1").exchange().expectStatus().isNotFound();
+
+        client().get().uri("/tasks").exchange().expectStatus().isOk();
+        client().get().uri("/tags").exchange().expectStatus().isOk();
+    }
+
+    private WebTestClient client() {
+        return webTestClient.mutate()
+                .defaultHeaders(headers -> headers.setBasicAuth("username", "password"))
+                .build();
+    }
+}
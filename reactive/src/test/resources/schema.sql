@@ -0,0 +1,30 @@
+-- The tables and indexes the servlet build's migrations create on H2 (db/migration/h2)
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id BIGINT NOT NULL PRIMARY KEY,
+    tittle VARCHAR(255),
+    completed BOOLEAN NOT NULL,
+    due_date DATE,
+    version BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tags (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) UNIQUE,
+    date_created DATE,
+    task_count BIGINT NOT NULL,
+    version BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS task_tag (
+    task_id BIGINT NOT NULL REFERENCES tasks (id),
+    tag_id BIGINT NOT NULL REFERENCES tags (id),
+    PRIMARY KEY (task_id, tag_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_completed_id ON tasks (completed, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date_id ON tasks (due_date, id);
+CREATE INDEX IF NOT EXISTS idx_tags_date_created ON tags (date_created);
+CREATE INDEX IF NOT EXISTS idx_tags_task_count_id ON tags (task_count, id);
+CREATE INDEX IF NOT EXISTS idx_task_tag_tag_task ON task_tag (tag_id, task_id);
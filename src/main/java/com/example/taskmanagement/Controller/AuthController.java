@@ -0,0 +1,52 @@
+package com.example.taskmanagement.Controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.taskmanagement.DTO.AuthTokenDTO;
+import com.example.taskmanagement.Service.AuditLogService;
+import com.example.taskmanagement.Service.AuthTokenService;
+import com.example.taskmanagement.response.ResponseHandler;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+
+/**
+ * Controller for exchanging HTTP Basic credentials for a bearer token.
+ */
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RequestMapping("/auth")
+@AllArgsConstructor
+@Tag(name = "Authentication", description = "Operations for obtaining access tokens")
+@RestController
+public class AuthController {
+
+    private AuthTokenService authTokenService;
+    private AuditLogService auditLogService;
+
+    /**
+     * Issues a short-lived bearer token to a user authenticated with HTTP Basic.
+     *
+     * @return ResponseEntity containing the token and its expiry.
+     */
+    @Operation(summary = "Issues a bearer token", description = "Authenticate with HTTP Basic once, then send "
+            + "'Authorization: Bearer <token>' until the token expires")
+    @ApiResponse(responseCode = "200", description = "token issued",
+            content = @Content(schema = @Schema(implementation = AuthTokenDTO.class)))
+    @ApiResponse(responseCode = "401", description = "Invalid credentials")
+    @PostMapping("/login")
+    public ResponseEntity<?> login() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        auditLogService.log("Auth", "LOGIN", username, "Issued a bearer token");
+        return ResponseHandler.ResponseBuilder("Token issued", HttpStatus.OK, authTokenService.issue(username));
+    }
+}
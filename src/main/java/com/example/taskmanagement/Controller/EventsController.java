@@ -0,0 +1,52 @@
+package com.example.taskmanagement.Controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.taskmanagement.Service.AuditLogService;
+import com.example.taskmanagement.Service.ChangeFeed;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+
+/**
+ * Controller streaming task and tag changes as Server-Sent Events.
+ */
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RequestMapping("/events")
+@AllArgsConstructor
+@Tag(name = "Events", description = "Change feed of tasks and tags")
+@RestController
+public class EventsController {
+
+    private ChangeFeed changeFeed;
+    private AuditLogService auditLogService;
+
+    /**
+     * Streams committed task and tag writes.
+     * Reconnecting clients send the id of the last event they saw and are
+     * replayed the events they missed, or sent a 'reset' event when those are
+     * no longer available.
+     *
+     * @param lastEventId The id of the last event received before reconnecting.
+     * @return The event stream.
+     */
+    @Operation(summary = "Streams task and tag changes", description = "Server-Sent Events named 'task' or 'tag' "
+            + "with the kind of write and the state after it. A 'reset' event means the client missed events "
+            + "and should reload")
+    @ApiResponse(responseCode = "200", description = "event stream")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        auditLogService.log("Event", "SUBSCRIBE", username, "Subscribed to the change feed");
+        return changeFeed.subscribe(lastEventId);
+    }
+}
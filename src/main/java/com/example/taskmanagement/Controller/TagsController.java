@@ -18,11 +18,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.taskmanagement.DTO.TagDTO;
+import com.example.taskmanagement.DTO.TagSuggestionDTO;
 import com.example.taskmanagement.DTO.TagWithTasksDTO;
 import com.example.taskmanagement.Model.Tag;
 import com.example.taskmanagement.Model.Task;
 import com.example.taskmanagement.Service.AuditLogService;
+import com.example.taskmanagement.Service.CollectionVersions;
+import com.example.taskmanagement.Service.TagListResponseCache;
 import com.example.taskmanagement.Service.TagService;
 import com.example.taskmanagement.response.ResponseHandler;
 
@@ -53,6 +58,14 @@ public class TagsController {
      * Service for handling tag operations.
      */
     private TagService tagService;
+    /**
+     * Cache of serialized tag listings.
+     */
+    private TagListResponseCache tagListResponseCache;
+    /**
+     * High-water marks used as ETags.
+     */
+    private CollectionVersions collectionVersions;
 
     /**
      * Creates a re-usable tag.
@@ -74,37 +87,77 @@ public class TagsController {
      * Retrieves a specific tag with its tasks.
      *
      * @param tagId The ID of the tag to be retrieved.
-     * @return ResponseEntity containing the tag with its tasks.
+     * @param webRequest The request, used for the conditional GET check.
+     * @return ResponseEntity containing the tag with its tasks, or 304 when the
+     *         If-None-Match ETag is current.
      */
     @Operation(summary = "Retrieves a specific tag with its tasks", description = "Returns tag with tasks")
     @ApiResponse(responseCode = "200", description = "operation successful",
             content = @Content(schema = @Schema(implementation = TagWithTasksDTO.class)))
+    @ApiResponse(responseCode = "304", description = "not modified since the ETag sent in If-None-Match")
     @GetMapping("/{tagId}")
-    public ResponseEntity<?> getTagWithTasks(@PathVariable("tagId") Long tagId) {
+    public ResponseEntity<?> getTagWithTasks(@PathVariable("tagId") Long tagId, WebRequest webRequest) {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
         auditLogService.log("Tag", "READ", username, "Retrieved tag with tasks");
+        if (webRequest.checkNotModified(collectionVersions.tagWithTasksETag(tagId))) {
+            return null;
+        }
         TagWithTasksDTO tagWithTasksDTO = tagService.getTagWithTasks(tagId);
         return ResponseHandler.ResponseBuilder("success", HttpStatus.OK,tagWithTasksDTO);
     }
 
     /**
-     * Retrieves all tags with their tasks.
+     * Retrieves a page of tags with their task counts.
+     * Responses are served from a cache that is invalidated by tag and task writes,
+     * and a current If-None-Match ETag is answered with 304.
      *
-     * @return List of TagDTO containing tags with their tasks.
+     * @param dateCreated Optional creation date filter.
+     * @param page The zero-based page number.
+     * @param size The page size, capped by the server.
+     * @param sort The sort order: id, name or count.
+     * @param webRequest The request, used for the conditional GET check.
+     * @return List of TagDTO containing tags with their task counts.
      */
-    @Operation(summary = "Retrieves all tags with their tasks", description = "Returns list of tags with tasks")
+    @Operation(summary = "Retrieves all tags with their tasks", description = "Returns a page of tags with task counts, "
+            + "sortable by id, name or count")
     @ApiResponse(responseCode = "200", description = "operation successful",
             content = @Content(schema = @Schema(implementation = List.class, type = "array")))
+    @ApiResponse(responseCode = "304", description = "not modified since the ETag sent in If-None-Match")
    @GetMapping()
     public ResponseEntity<?> getAllTags(@RequestParam(required = false)
-                                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateCreated) {
+                                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateCreated,
+                                       @RequestParam(defaultValue = "0") int page,
+                                       @RequestParam(required = false) Integer size,
+                                       @RequestParam(required = false) String sort,
+                                       WebRequest webRequest) {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
         auditLogService.log("Tag", "READ", username, "Retrieved all tags");
+        if (webRequest.checkNotModified(collectionVersions.tagsETag())) {
+            return null;
+        }
 
-        return tagService.getAllTagsOrByFilterDateCreated(dateCreated);
+        return tagListResponseCache.get(dateCreated, page, size, sort,
+                () -> tagService.getAllTagsOrByFilterDateCreated(dateCreated, page, size, sort));
     }
 
 
+    /**
+     * Suggests tag names for autocomplete.
+     * Not audited, since it is called on every keystroke.
+     *
+     * @param prefix The typed prefix, matched case-insensitively.
+     * @param limit The maximum number of suggestions, capped by the server.
+     * @return The most used tags starting with the prefix.
+     */
+    @Operation(summary = "Suggests tag names", description = "Returns the most used tags whose name starts with "
+            + "the prefix, ignoring case")
+    @ApiResponse(responseCode = "200", description = "operation successful",
+            content = @Content(schema = @Schema(implementation = TagSuggestionDTO.class, type = "array")))
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggestTags(@RequestParam(defaultValue = "") String prefix,
+                                         @RequestParam(required = false) Integer limit) {
+        return ResponseHandler.ResponseBuilder("success", HttpStatus.OK, tagService.suggestTags(prefix, limit));
+    }
 
     /**
      * Deletes a tag by its ID.
@@ -120,4 +173,41 @@ public class TagsController {
         auditLogService.log("Tag", "DELETE", username, "Deleted tag with id: " + tagId);
         return tagService.deleteTag(tagId);
     }
+
+    /**
+     * Renames a tag. Tasks reference the tag by ID, so they show the new name.
+     *
+     * @param tagId The ID of the tag to be renamed.
+     * @param tag A tag holding the new name.
+     * @return ResponseEntity containing the renamed tag with its task count.
+     */
+    @Operation(summary = "Renames a tag", description = "Returns the renamed tag with its task count")
+    @ApiResponse(responseCode = "200", description = "operation successful",
+            content = @Content(schema = @Schema(implementation = TagDTO.class)))
+    @ApiResponse(responseCode = "409", description = "another tag already has the name")
+    @PatchMapping("/rename/{tagId}")
+    public ResponseEntity<?> renameTag(@PathVariable("tagId") Long tagId, @RequestBody Tag tag) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        auditLogService.log("Tag", "UPDATE", username, "Renamed tag with id: " + tagId);
+        return tagService.renameTag(tagId, tag);
+    }
+
+    /**
+     * Merges one tag into another and deletes the source tag.
+     *
+     * @param sourceTagId The ID of the tag to merge away.
+     * @param targetTagId The ID of the tag that receives the tasks.
+     * @return ResponseEntity containing the target tag with its task count.
+     */
+    @Operation(summary = "Merges a tag into another", description = "Moves every task of the source tag to the "
+            + "target tag, deletes the source tag and returns the target tag with its task count")
+    @ApiResponse(responseCode = "200", description = "operation successful",
+            content = @Content(schema = @Schema(implementation = TagDTO.class)))
+    @PostMapping("/merge/{sourceTagId}/into/{targetTagId}")
+    public ResponseEntity<?> mergeTags(@PathVariable("sourceTagId") Long sourceTagId,
+                                       @PathVariable("targetTagId") Long targetTagId) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        auditLogService.log("Tag", "MERGE", username, "Merged tag " + sourceTagId + " into tag " + targetTagId);
+        return tagService.mergeTags(sourceTagId, targetTagId);
+    }
 }
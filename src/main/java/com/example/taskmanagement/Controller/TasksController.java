@@ -1,24 +1,45 @@
 package com.example.taskmanagement.Controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.taskmanagement.DTO.BulkTaskResultDTO;
+import com.example.taskmanagement.DTO.CursorPageDTO;
+import com.example.taskmanagement.DTO.DueDayCountDTO;
+import com.example.taskmanagement.DTO.TaskExportDTO;
+import com.example.taskmanagement.DTO.TaskImportResultDTO;
+import com.example.taskmanagement.DTO.TaskPatchDTO;
+import com.example.taskmanagement.DTO.TaskSearchPageDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
 import com.example.taskmanagement.Model.Task;
 import com.example.taskmanagement.Service.AuditLogService;
+import com.example.taskmanagement.Service.CollectionVersions;
+import com.example.taskmanagement.Service.TaskExportService;
+import com.example.taskmanagement.Service.TaskImportService;
 import com.example.taskmanagement.Service.TaskService;
 import com.example.taskmanagement.response.ResponseHandler;
 
@@ -38,6 +59,9 @@ public class TasksController {
 
   private TaskService taskService;
   private AuditLogService auditLogService;
+  private TaskExportService taskExportService;
+  private TaskImportService taskImportService;
+  private CollectionVersions collectionVersions;
 
   /**
    * Gets all tasks or tasks filtered by 'isCompleted' status.
@@ -53,6 +77,51 @@ public class TasksController {
     return ResponseHandler.ResponseBuilder("Task created successfully", HttpStatus.CREATED, task);
   }
 
+  /**
+   * Creates or updates many tasks in one request.
+   * Items without an id are created, items with an id are updated.
+   */
+  @Operation(summary = "Creates or updates tasks in bulk", description = "Returns one result per task, in request order")
+  @ApiResponse(responseCode = "200", description = "operation completed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkTaskResultDTO.class)))
+  @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+  @PostMapping("/bulk/")
+  public ResponseEntity<?> saveTasks(@RequestBody List<Task> tasks) {
+    String username = SecurityContextHolder.getContext().getAuthentication().getName();
+    auditLogService.log("Task", "BULK", username, "Saved " + tasks.size() + " tasks in bulk");
+    List<BulkTaskResultDTO> results = taskService.saveTasks(tasks);
+    return ResponseHandler.ResponseBuilder("Bulk operation completed", HttpStatus.OK, results);
+  }
+
+  /**
+   * Streams all tasks as newline-delimited JSON, one task with its tag names per line.
+   * Can be filtered with the completion status.
+   */
+  @Operation(summary = "Exports tasks as NDJSON", description = "Streams every task with its tag names, one JSON object per line")
+  @ApiResponse(responseCode = "200", description = "operation successful", content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = TaskExportDTO.class)))
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(required = false) Boolean completed) {
+    String username = SecurityContextHolder.getContext().getAuthentication().getName();
+    auditLogService.log("Task", "EXPORT", username, "Exported tasks");
+    StreamingResponseBody body = out -> taskExportService.exportTasks(Optional.ofNullable(completed), out);
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  /**
+   * Imports tasks from an NDJSON or CSV body, streamed and written in batches.
+   */
+  @Operation(summary = "Imports tasks from NDJSON or CSV", description = "Returns the number of imported and rejected rows, "
+      + "the first rejections with their reasons, and the throughput")
+  @ApiResponse(responseCode = "200", description = "import completed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskImportResultDTO.class)))
+  @ApiResponse(responseCode = "400", description = "Unsupported content type or invalid CSV header")
+  @PostMapping(value = "/import", consumes = { MediaType.APPLICATION_NDJSON_VALUE, TaskImportService.TEXT_CSV_VALUE })
+  public ResponseEntity<?> importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body)
+      throws IOException {
+    String username = SecurityContextHolder.getContext().getAuthentication().getName();
+    auditLogService.log("Task", "IMPORT", username, "Imported tasks");
+    TaskImportResultDTO result = taskImportService.importTasks(body, contentType);
+    return ResponseHandler.ResponseBuilder("Import completed", HttpStatus.OK, result);
+  }
+
   /**
    * Updates a task with at-least one tag in the system.
    */
@@ -67,6 +136,22 @@ public class TasksController {
     return ResponseHandler.ResponseBuilder("Update success", HttpStatus.OK, updatedTaskResult);
   }
 
+  /**
+   * Partially updates a task: only the given fields and tags change.
+   */
+  @Operation(summary = "Partially updates a task", description = "Changes the given fields, adds and removes tags "
+      + "by name, and returns the updated task")
+  @ApiResponse(responseCode = "200", description = "operation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskViewDTO.class)))
+  @ApiResponse(responseCode = "400", description = "empty patch, or the task would be left without tags")
+  @ApiResponse(responseCode = "404", description = "task not found")
+  @PatchMapping("/update/{taskId}")
+  public ResponseEntity<?> patchTask(@PathVariable("taskId") Long id, @RequestBody TaskPatchDTO patch) {
+    TaskViewDTO patchedTask = taskService.patchTask(id, patch);
+    String username = SecurityContextHolder.getContext().getAuthentication().getName();
+    auditLogService.log("Task", "UPDATE", username, "Patched a task");
+    return ResponseHandler.ResponseBuilder("Update success", HttpStatus.OK, patchedTask);
+  }
+
   /**
    * Deletes a task by its ID.
    */
@@ -82,16 +167,157 @@ public class TasksController {
   }
 
   /**
-   * Retrieves a list of tasks based on the provided filter.
-   * If no filter is provided, all tasks are returned.
+   * Retrieves a page of tasks based on the provided filter.
+   * If no filter is provided, tasks of any status are returned.
+   * Pages are ordered by id; pass the returned nextCursor as 'after' to get the next page.
+   * Answers 304 without reading any task when the If-None-Match ETag is current.
    **/
-  @Operation(summary = "Retrieves tasks", description = "Returns a list of tasks and can be filtered with is complete (true/false)")
-  @ApiResponse(responseCode = "200", description = "operation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class)))
+  @Operation(summary = "Retrieves tasks", description = "Returns a page of tasks and can be filtered with is complete (true/false). "
+      + "Use 'limit' for the page size and the returned 'nextCursor' as 'after' for the following page")
+  @ApiResponse(responseCode = "200", description = "operation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDTO.class)))
+  @ApiResponse(responseCode = "304", description = "not modified since the ETag sent in If-None-Match")
   @GetMapping()
-  public ResponseEntity<List<Task>> getTasks(@RequestParam(required = false) Boolean completed) {
-    List<Task> tasks = taskService.getAllTasksOrByFilterIsComplete(Optional.ofNullable(completed));
+  public ResponseEntity<?> getTasks(@RequestParam(required = false) Boolean completed,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String after,
+      WebRequest webRequest) {
     String username = SecurityContextHolder.getContext().getAuthentication().getName();
     auditLogService.log("Task", "GET", username, "Retrieved tasks");
-    return ResponseEntity.ok(tasks);
+    // Read the mark before the data, so a concurrent write can only make the ETag older than the body
+    if (webRequest.checkNotModified(collectionVersions.tasksETag())) {
+      return null;
+    }
+    CursorPageDTO<TaskViewDTO> tasks = taskService.getTasksPage(Optional.ofNullable(completed), limit, after);
+    return ResponseHandler.ResponseBuilder("success", HttpStatus.OK, tasks);
+  }
+
+  /**
+   * Retrieves a page of tasks matching a boolean tag expression.
+   * Tag names are given as comma separated lists; a task matches when it has
+   * every tag of 'all', at least one tag of 'any' and no tag of 'none'.
+   **/
+  @Operation(summary = "Queries tasks by tags", description = "Returns a page of tasks that have all tags of 'all', "
+      + "at least one tag of 'any' and none of 'none', optionally filtered with is complete (true/false). "
+      + "Use 'limit' for the page size and the returned 'nextCursor' as 'after' for the following page")
+  @ApiResponse(responseCode = "200", description = "operation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDTO.class)))
+  @GetMapping("/query")
+  public ResponseEntity<?> queryTasks(@RequestParam(required = false, defaultValue = "") List<String> all,
+      @RequestParam(required = false, defaultValue = "") List<String> any,
+      @RequestParam(required = false, defaultValue = "") List<String> none,
+      @RequestParam(required = false) Boolean completed,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String after) {
+    CursorPageDTO<TaskViewDTO> tasks = taskService.queryTasksByTags(all, any, none, Optional.ofNullable(completed),
+        limit, after);
+    String username = SecurityContextHolder.getContext().getAuthentication().getName();
+    auditLogService.log("Task", "GET", username, "Queried tasks by tags");
+    return ResponseHandler.ResponseBuilder("success", HttpStatus.OK, tasks);
+  }
+
+  /**
+   * Searches task titles for a case-insensitive substring.
+   * Accepts the same tag and completion filters as the tag query; results are
+   * ranked best match first and paginated with 'page' and 'size'.
+   **/
+  @Operation(summary = "Searches task titles", description = "Returns a page of tasks whose title contains 'q' "
+      + "(at least 3 characters, case-insensitive), ranked with exact titles first, then title prefixes, then word "
+      + "starts. Can be combined with 'all', 'any', 'none' and 'completed' as in /tasks/query")
+  @ApiResponse(responseCode = "200", description = "operation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskSearchPageDTO.class)))
+  @ApiResponse(responseCode = "400", description = "Query too short or page too deep")
+  @GetMapping("/search")
+  public ResponseEntity<?> searchTasks(@RequestParam String q,
+      @RequestParam(required = false, defaultValue = "") List<String> all,
+      @RequestParam(required = false, defaultValue = "") List<String> any,
+      @RequestParam(required = false, defaultValue = "") List<String> none,
+      @RequestParam(required = false) Boolean completed,
+      @RequestParam(required = false, defaultValue = "0") int page,
+      @RequestParam(required = false) Integer size) {
+    TaskSearchPageDTO tasks = taskService.searchTasks(q, all, any, none, Optional.ofNullable(completed), page, size);
+    String username = SecurityContextHolder.getContext().getAuthentication().getName();
+    auditLogService.log("Task", "GET", username, "Searched tasks");
+    return ResponseHandler.ResponseBuilder("success", HttpStatus.OK, tasks);
+  }
+
+  /**
+   * Retrieves a page of tasks due in a date range, ordered by due date.
+   * Without 'from' the range starts at the earliest due date.
+   * Accepts the same tag and completion filters as the tag query.
+   **/
+  @Operation(summary = "Retrieves tasks due in a date range", description = "Returns a page of tasks whose due date "
+      + "lies between 'from' and 'to' (inclusive, yyyy-MM-dd), ordered by due date. Without 'from' every task due "
+      + "up to 'to' is returned. Can be combined with 'all', "
+      + "'any', 'none' and 'completed' as in /tasks/query. Use the returned 'nextCursor' as 'after' for the "
+      + "following page")
+  @ApiResponse(responseCode = "200", description = "operation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDTO.class)))
+  @ApiResponse(responseCode = "400", description = "Missing or reversed range, or malformed cursor")
+  @GetMapping("/due")
+  public ResponseEntity<?> getTasksDue(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(required = false, defaultValue = "") List<String> all,
+      @RequestParam(required = false, defaultValue = "") List<String> any,
+      @RequestParam(required = false, defaultValue = "") List<String> none,
+      @RequestParam(required = false) Boolean completed,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String after) {
+    CursorPageDTO<TaskViewDTO> tasks = taskService.getTasksDue(from, to, Optional.ofNullable(completed), all, any,
+        none, limit, after);
+    String username = SecurityContextHolder.getContext().getAuthentication().getName();
+    auditLogService.log("Task", "GET", username, "Retrieved tasks due in a range");
+    return ResponseHandler.ResponseBuilder("success", HttpStatus.OK, tasks);
+  }
+
+  /**
+   * Retrieves a page of incomplete tasks due before today, oldest first.
+   **/
+  @Operation(summary = "Retrieves overdue tasks", description = "Returns a page of incomplete tasks due before today, "
+      + "oldest due date first. Can be combined with 'all', 'any' and 'none' as in /tasks/query")
+  @ApiResponse(responseCode = "200", description = "operation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDTO.class)))
+  @GetMapping("/overdue")
+  public ResponseEntity<?> getOverdueTasks(@RequestParam(required = false, defaultValue = "") List<String> all,
+      @RequestParam(required = false, defaultValue = "") List<String> any,
+      @RequestParam(required = false, defaultValue = "") List<String> none,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String after) {
+    CursorPageDTO<TaskViewDTO> tasks = taskService.getOverdueTasks(all, any, none, limit, after);
+    String username = SecurityContextHolder.getContext().getAuthentication().getName();
+    auditLogService.log("Task", "GET", username, "Retrieved overdue tasks");
+    return ResponseHandler.ResponseBuilder("success", HttpStatus.OK, tasks);
+  }
+
+  /**
+   * Retrieves a page of tasks due today.
+   **/
+  @Operation(summary = "Retrieves tasks due today", description = "Returns a page of tasks due today. Can be combined "
+      + "with 'all', 'any', 'none' and 'completed' as in /tasks/query")
+  @ApiResponse(responseCode = "200", description = "operation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDTO.class)))
+  @GetMapping("/due-today")
+  public ResponseEntity<?> getTasksDueToday(@RequestParam(required = false, defaultValue = "") List<String> all,
+      @RequestParam(required = false, defaultValue = "") List<String> any,
+      @RequestParam(required = false, defaultValue = "") List<String> none,
+      @RequestParam(required = false) Boolean completed,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String after) {
+    CursorPageDTO<TaskViewDTO> tasks = taskService.getTasksDueToday(Optional.ofNullable(completed), all, any, none,
+        limit, after);
+    String username = SecurityContextHolder.getContext().getAuthentication().getName();
+    auditLogService.log("Task", "GET", username, "Retrieved tasks due today");
+    return ResponseHandler.ResponseBuilder("success", HttpStatus.OK, tasks);
+  }
+
+  /**
+   * Retrieves the number of tasks due on each day of a range, for calendar views.
+   **/
+  @Operation(summary = "Counts tasks per due date", description = "Returns the number of tasks, and of incomplete "
+      + "tasks, due on each day between 'from' and 'to' (inclusive, at most 366 days). Days without tasks are omitted")
+  @ApiResponse(responseCode = "200", description = "operation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DueDayCountDTO.class, type = "array")))
+  @ApiResponse(responseCode = "400", description = "Missing, reversed or too long range")
+  @GetMapping("/due/calendar")
+  public ResponseEntity<?> getDueDayCounts(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+    List<DueDayCountDTO> counts = taskService.getDueDayCounts(from, to);
+    String username = SecurityContextHolder.getContext().getAuthentication().getName();
+    auditLogService.log("Task", "GET", username, "Retrieved due date counts");
+    return ResponseHandler.ResponseBuilder("success", HttpStatus.OK, counts);
   }
 }
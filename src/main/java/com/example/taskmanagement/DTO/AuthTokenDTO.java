@@ -0,0 +1,22 @@
+package com.example.taskmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * A bearer token issued by the login endpoint.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthTokenDTO {
+    private String token;
+    private String tokenType;
+    private Instant expiresAt;
+    private long expiresIn;
+}
@@ -0,0 +1,33 @@
+package com.example.taskmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of one item of a bulk task request.
+ * {@code index} is the position of the item in the request body.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResultDTO {
+    private int index;
+    private Long id;
+    private String status;
+    private String error;
+
+    public static BulkTaskResultDTO created(int index, Long id) {
+        return new BulkTaskResultDTO(index, id, "CREATED", null);
+    }
+
+    public static BulkTaskResultDTO updated(int index, Long id) {
+        return new BulkTaskResultDTO(index, id, "UPDATED", null);
+    }
+
+    public static BulkTaskResultDTO failed(int index, Long id, String error) {
+        return new BulkTaskResultDTO(index, id, "FAILED", error);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.taskmanagement.DTO;
+
+import java.util.Set;
+
+import com.example.taskmanagement.event.ChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Payload of one event of the {@code /events} change feed. Task events carry
+ * the title, status and tag ids after the write; tag events carry the name.
+ *
+ * @param type      The kind of write.
+ * @param id        The id of the task or tag.
+ * @param tittle    The title of the task.
+ * @param completed The completion status of the task.
+ * @param tagIds    The ids of the tags of the task.
+ * @param name      The name of the tag.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChangeEventDTO(
+        ChangeType type,
+        long id,
+        String tittle,
+        Boolean completed,
+        Set<Long> tagIds,
+        String name) {
+}
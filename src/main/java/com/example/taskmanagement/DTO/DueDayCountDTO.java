@@ -0,0 +1,26 @@
+package com.example.taskmanagement.DTO;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Number of tasks due on one day, read from the per-day buckets maintained
+ * with every task write. Also used for the changes applied to a bucket.
+ *
+ * @param day       The due date.
+ * @param taskCount The number of tasks due that day.
+ * @param openCount The number of those tasks that are not completed.
+ */
+public record DueDayCountDTO(
+        @JsonFormat(pattern = "yyyy-MM-dd") LocalDate day,
+        long taskCount,
+        long openCount) {
+
+    /**
+     * @return The sum of this and another count of the same day.
+     */
+    public DueDayCountDTO plus(final DueDayCountDTO other) {
+        return new DueDayCountDTO(day, taskCount + other.taskCount, openCount + other.openCount);
+    }
+}
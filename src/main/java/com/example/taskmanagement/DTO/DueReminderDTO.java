@@ -0,0 +1,24 @@
+package com.example.taskmanagement.DTO;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * A due-date reminder handed to the configured {@code ReminderSink} when a
+ * task that is not completed becomes due.
+ *
+ * @param taskId  The id of the task.
+ * @param tittle  The title of the task.
+ * @param dueDate The due date of the task.
+ * @param dueAt   When the reminder was due.
+ * @param firedAt When the reminder was fired.
+ */
+public record DueReminderDTO(
+        long taskId,
+        String tittle,
+        @JsonFormat(pattern = "yyyy-MM-dd") LocalDate dueDate,
+        Instant dueAt,
+        Instant firedAt) {
+}
@@ -0,0 +1,10 @@
+package com.example.taskmanagement.DTO;
+
+/**
+ * One tag name suggestion, with the number of tasks using the tag.
+ */
+public record TagSuggestionDTO(
+        Long id,
+        String name,
+        long taskCount) {
+}
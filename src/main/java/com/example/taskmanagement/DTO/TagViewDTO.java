@@ -0,0 +1,16 @@
+package com.example.taskmanagement.DTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Read model of a tag as embedded in {@link TaskViewDTO}.
+ * Serializes to the same JSON as the Tag entity, version included.
+ */
+public record TagViewDTO(
+        Long id,
+        String name,
+        @JsonFormat(pattern = "yyyy-MM-dd") LocalDate dateCreated,
+        long version) {
+}
@@ -1,6 +1,5 @@
 package com.example.taskmanagement.DTO;
 
-import com.example.taskmanagement.Model.Task;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,5 +13,5 @@ import java.util.List;
 public class TagWithTasksDTO {
     private Long tagId;
     private String tagName;
-    private List<Task> tasks;
+    private List<TaskViewDTO> tasks;
 }
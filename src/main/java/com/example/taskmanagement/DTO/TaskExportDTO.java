@@ -0,0 +1,26 @@
+package com.example.taskmanagement.DTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One line of the NDJSON task export: the task fields and the names of its tags.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskExportDTO {
+    private Long id;
+    private String tittle;
+    private boolean completed;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dueDate;
+    private List<String> tags;
+}
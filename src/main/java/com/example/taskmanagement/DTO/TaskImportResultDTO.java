@@ -0,0 +1,36 @@
+package com.example.taskmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Summary of a streaming task import.
+ * Only the first rejections are listed; {@code rejected} counts all of them.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResultDTO {
+    private long imported;
+    private long rejected;
+    private List<RejectedRow> rejections;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+
+    /**
+     * A row that was not imported, identified by its line number in the uploaded body.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedRow {
+        private long line;
+        private String reason;
+    }
+}
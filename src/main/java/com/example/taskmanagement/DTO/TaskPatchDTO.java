@@ -0,0 +1,40 @@
+package com.example.taskmanagement.DTO;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Body of a partial task update. Null fields are left unchanged; tags are
+ * added and removed by name, and tags that do not exist yet are created.
+ *
+ * @param tittle       The new title.
+ * @param completed    The new completion status.
+ * @param dueDate      The new due date.
+ * @param clearDueDate Whether to remove the due date; wins over {@code dueDate}.
+ * @param addTags      Names of tags to add to the task.
+ * @param removeTags   Names of tags to remove from the task.
+ */
+public record TaskPatchDTO(
+        String tittle,
+        Boolean completed,
+        @JsonFormat(pattern = "yyyy-MM-dd") LocalDate dueDate,
+        Boolean clearDueDate,
+        Set<String> addTags,
+        Set<String> removeTags) {
+
+    /**
+     * @return Whether the patch changes a column of the tasks row.
+     */
+    public boolean changesFields() {
+        return tittle != null || completed != null || dueDate != null || Boolean.TRUE.equals(clearDueDate);
+    }
+
+    /**
+     * @return Whether the patch changes the tags of the task.
+     */
+    public boolean changesTags() {
+        return (addTags != null && !addTags.isEmpty()) || (removeTags != null && !removeTags.isEmpty());
+    }
+}
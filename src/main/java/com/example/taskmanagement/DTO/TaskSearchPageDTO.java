@@ -0,0 +1,23 @@
+package com.example.taskmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One page of ranked title search results.
+ * {@code total} counts every task matching the query and filters.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchPageDTO {
+    private List<TaskViewDTO> items;
+    private long total;
+    private int page;
+    private int size;
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagement.DTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read model of a task with its tags, filled from scalar query results
+ * rather than managed entities. Serializes to the same JSON as the Task
+ * entity, including the version clients send back for optimistic locking.
+ */
+public record TaskViewDTO(
+        Long id,
+        String tittle,
+        boolean completed,
+        @JsonFormat(pattern = "yyyy-MM-dd") LocalDate dueDate,
+        List<TagViewDTO> tags,
+        long version) {
+}
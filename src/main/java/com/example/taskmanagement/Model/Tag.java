@@ -3,14 +3,22 @@ package com.example.taskmanagement.Model;
 import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,7 +32,12 @@ import lombok.Setter;
 @Table(name = "tags", uniqueConstraints = {
         @UniqueConstraint(columnNames = "name")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Tag.CACHE_REGION)
 public class Tag {
+    /** Second-level cache region of Tag entities. */
+    public static final String CACHE_REGION = "tags";
+
     @Schema(description = "Unique identifier for the tag", example = "1")
      @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,4 +46,25 @@ public class Tag {
     
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate dateCreated;
+
+    /**
+     * Number of tasks carrying this tag. Maintained with atomic increments by
+     * {@code TagRepository.adjustTaskCounts} in the same transaction as the
+     * task write, never through entity updates, so a stale in-memory value
+     * can not overwrite a concurrent increment. For the same reason the value
+     * held by a second-level cached Tag may be stale; read counts with a query.
+     */
+    @JsonIgnore
+    @Column(name = "task_count", nullable = false, updatable = false)
+    private long taskCount;
+
+    /**
+     * Optimistic lock version, incremented on every entity update. Rows inserted
+     * with JDBC start at 0. Copies of a Tag must carry it, see TagNameCache.
+     */
+    @Schema(description = "Version of the tag, incremented on every change", example = "0")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Version
+    @Column(nullable = false)
+    private long version;
 }
@@ -5,9 +5,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -16,7 +16,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,9 +31,16 @@ import lombok.Setter;
 @Entity
 @Table(name = "tasks")
 public class Task {
+  /**
+   * Number of ids Hibernate reserves per round trip to tasks_seq. Ids come from
+   * a pooled sequence rather than IDENTITY so that inserts can be batched.
+   */
+  public static final int TASK_ID_ALLOCATION_SIZE = 50;
+
   @Schema(description = "Unique identifier for the task", example = "1")
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+  @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = TASK_ID_ALLOCATION_SIZE)
   @Column(name = "id")
   private Long id;
 
@@ -44,7 +53,21 @@ public class Task {
   @JsonFormat(pattern = "yyyy-MM-dd")
   private LocalDate dueDate;
 
-  @ManyToMany(cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+  /**
+   * Tags are always resolved to persisted rows by {@code TaskService.processedTag}
+   * before a task is saved, and may be detached cached copies, so nothing is
+   * cascaded to them.
+   */
+  @ManyToMany
   @JoinTable(name = "task_tag", joinColumns = @JoinColumn(name = "task_id", referencedColumnName = "id"), inverseJoinColumns = @JoinColumn(name = "tag_id", referencedColumnName = "id"))
   private Set<Tag> tags = new HashSet<>();
+
+  /**
+   * Optimistic lock version, incremented on every update including tag changes.
+   */
+  @Schema(description = "Version of the task, incremented on every change", example = "0")
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  @Version
+  @Column(nullable = false)
+  private long version;
 }
@@ -1,13 +1,23 @@
 package com.example.taskmanagement.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import com.example.taskmanagement.DTO.TagDTO;
 import com.example.taskmanagement.Model.Tag;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,7 +28,7 @@ import org.springframework.stereotype.Repository;
  * @author tommlyjumah
  */
 @Repository
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryCustom {
 
   /**
    * Finds a Tag by its name.
@@ -28,6 +38,27 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
    */
   Optional<Tag> findByName(String name);
 
+  /**
+   * Finds all Tags whose name is one of the given names.
+   *
+   * @param names The names of the Tags to find.
+   * @return The Tags that exist; names without a Tag are simply absent.
+   */
+  List<Tag> findByNameIn(Collection<String> names);
+
+  /**
+   * Finds all Tags whose name is one of the given names with a locking read.
+   * Unlike {@link #findByNameIn(Collection)}, this sees rows committed by other
+   * transactions after the current transaction's snapshot was taken, which is
+   * needed right after {@link #upsertTags(Collection)} skipped such rows.
+   *
+   * @param names The names of the Tags to find.
+   * @return The Tags that exist.
+   */
+  @Lock(LockModeType.PESSIMISTIC_READ)
+  @Query("SELECT t FROM Tag t WHERE t.name IN :names")
+  List<Tag> findCurrentByNameIn(@Param("names") Collection<String> names);
+
   /**
    * Counts the number of tasks associated with a specific Tag.
    *
@@ -46,6 +77,37 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
   @Query(value = "SELECT task_id FROM task_tag WHERE tag_id = :tagId", nativeQuery = true)
   List<Long> findTaskIdsByTagId(@Param("tagId") Long tagId);
 
+  /**
+   * Retrieves a page of Tags together with the number of tasks associated with
+   * each one. The count is read from the maintained task_count column, so no
+   * aggregation over task_tag is needed.
+   * The order is taken from the pageable's sort.
+   *
+   * @param pageable The page and sort to apply.
+   * @return A list of TagDTO objects containing the Tag ID, name, task count and date created.
+   */
+  @Query("SELECT new com.example.taskmanagement.DTO.TagDTO(t.id, t.name, t.taskCount, t.dateCreated) FROM Tag t")
+  List<TagDTO> findTagStatistics(Pageable pageable);
+
+  /**
+   * Reads one Tag with its task count straight from the tags table, bypassing
+   * the second-level cache, whose copy may hold a stale count.
+   *
+   * @param tagId The ID of the Tag.
+   * @return The Tag ID, name, task count and date created, if the Tag exists.
+   */
+  @Query("SELECT new com.example.taskmanagement.DTO.TagDTO(t.id, t.name, t.taskCount, t.dateCreated) "
+      + "FROM Tag t WHERE t.id = :tagId")
+  Optional<TagDTO> findTagStatisticsById(@Param("tagId") Long tagId);
+
+  /**
+   * Finds the Tags created on the given date. Results are kept in the query
+   * cache until a write to the tags table invalidates them.
+   *
+   * @param dateCreated The creation date.
+   * @return The Tags created on that date.
+   */
   @Query("SELECT t FROM Tag t WHERE t.dateCreated = :dateCreated")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   List<Tag> findTagsByDateCreated(@Param("dateCreated") LocalDate dateCreated);
 }
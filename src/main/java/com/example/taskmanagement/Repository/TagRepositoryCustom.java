@@ -0,0 +1,96 @@
+package com.example.taskmanagement.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.example.taskmanagement.Model.Tag;
+
+/**
+ * Tag repository operations implemented with plain JDBC or the Hibernate
+ * session rather than derived or annotated queries.
+ */
+public interface TagRepositoryCustom {
+
+  /**
+   * Atomically adds the given deltas to the task counters of the given Tags.
+   * Runs in the caller's transaction.
+   *
+   * @param deltas The change to apply per Tag ID. Zero deltas are skipped.
+   */
+  void adjustTaskCounts(Map<Long, Long> deltas);
+
+  /**
+   * Inserts the given Tags with one JDBC batch, skipping names that already
+   * exist (including ones committed by a concurrent transaction after the
+   * caller looked them up). The generated ids are not read back; look the
+   * Tags up by name afterwards with a locking read.
+   * Runs in the caller's transaction. Cached query results over tags are
+   * evicted, since the insert bypasses Hibernate.
+   *
+   * @param tags The Tags to insert, with their name and optional creation date.
+   */
+  void upsertTags(Collection<Tag> tags);
+
+  /**
+   * Reads up to {@code limit} ids of the tasks linked to a Tag, lowest first.
+   * Meant for draining the links of a Tag chunk by chunk: each chunk is
+   * unlinked before the next one is read, so no offset is needed.
+   *
+   * @param tagId The ID of the Tag.
+   * @param limit The maximum number of ids.
+   * @return The task ids, empty when the Tag has no links left.
+   */
+  List<Long> findTaskIdChunk(long tagId, int limit);
+
+  /**
+   * Removes the links between a Tag and the given tasks and increments the
+   * version of those tasks. Runs in the caller's transaction.
+   *
+   * @param tagId   The ID of the Tag.
+   * @param taskIds The tasks to unlink, as read by {@link #findTaskIdChunk}.
+   * @return The number of links removed.
+   */
+  int unlinkTasks(long tagId, List<Long> taskIds);
+
+  /**
+   * Moves the links of the given tasks from one Tag to another. Tasks that
+   * already carry the target Tag only lose the source link, so no duplicate
+   * join row is created. The version of the tasks is incremented. Runs in the
+   * caller's transaction; the task counters are left to the caller.
+   *
+   * @param sourceTagId The ID of the Tag losing the links.
+   * @param targetTagId The ID of the Tag receiving the links.
+   * @param taskIds     The tasks to move, as read by {@link #findTaskIdChunk}.
+   * @return The number of links added to the target Tag and removed from the
+   *         source Tag.
+   */
+  Relinked relinkTasks(long sourceTagId, long targetTagId, List<Long> taskIds);
+
+  /**
+   * Renames a Tag with one statement and increments its version. The caller
+   * evicts the cached copies of the Tag, which this bypasses.
+   *
+   * @param tagId The ID of the Tag.
+   * @param name  The new name.
+   * @return Whether the Tag exists.
+   */
+  boolean renameTag(long tagId, String name);
+
+  /**
+   * Deletes a Tag row with one statement. The Tag must have no links left.
+   *
+   * @param tagId The ID of the Tag.
+   * @return Whether the Tag existed.
+   */
+  boolean deleteTagRow(long tagId);
+
+  /**
+   * Links changed by {@link #relinkTasks}, as counted by the statements.
+   *
+   * @param added   The links added to the target Tag.
+   * @param removed The links removed from the source Tag.
+   */
+  record Relinked(int added, int removed) {
+  }
+}
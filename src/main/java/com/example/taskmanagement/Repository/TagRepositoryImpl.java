@@ -0,0 +1,194 @@
+package com.example.taskmanagement.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.example.taskmanagement.Model.Tag;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * JDBC and Hibernate session implementation of {@link TagRepositoryCustom}.
+ */
+@AllArgsConstructor
+public class TagRepositoryImpl implements TagRepositoryCustom {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
+
+  /**
+   * Applies the deltas as {@code task_count = task_count + ?} so concurrent
+   * writers never lose an update. Rows are updated in id order so that two
+   * transactions touching the same tags always lock them in the same order.
+   */
+  @Override
+  public void adjustTaskCounts(Map<Long, Long> deltas) {
+    List<Map.Entry<Long, Long>> rows = deltas.entrySet().stream()
+        .filter(entry -> entry.getValue() != 0)
+        .sorted(Map.Entry.comparingByKey())
+        .toList();
+    if (rows.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate("UPDATE tags SET task_count = task_count + ? WHERE id = ?", rows, rows.size(),
+        (ps, row) -> {
+          ps.setLong(1, row.getValue());
+          ps.setLong(2, row.getKey());
+        });
+  }
+
+  /**
+   * Uses {@code INSERT ... ON DUPLICATE KEY UPDATE} with a no-op update, so a
+   * name inserted concurrently by another transaction makes this statement
+   * wait for it and then skip the row instead of failing on the unique
+   * constraint. Names are inserted in sorted order so that concurrent batches
+   * take their index locks in the same order and can not deadlock.
+   */
+  @Override
+  public void upsertTags(Collection<Tag> tags) {
+    if (tags.isEmpty()) {
+      return;
+    }
+    List<Tag> sorted = tags.stream()
+        .sorted(Comparator.comparing(Tag::getName))
+        .toList();
+    jdbcTemplate.batchUpdate("INSERT INTO tags (name, date_created, task_count, version) VALUES (?, ?, 0, 0) "
+        + "ON DUPLICATE KEY UPDATE name = name", sorted, sorted.size(),
+        (ps, tag) -> {
+          ps.setString(1, tag.getName());
+          if (tag.getDateCreated() != null) {
+            ps.setDate(2, Date.valueOf(tag.getDateCreated()));
+          } else {
+            ps.setNull(2, Types.DATE);
+          }
+        });
+    evictTagQueries();
+  }
+
+  @Override
+  public List<Long> findTaskIdChunk(long tagId, int limit) {
+    return jdbcTemplate.queryForList("SELECT task_id FROM task_tag WHERE tag_id = ? ORDER BY task_id LIMIT ?",
+        Long.class, tagId, limit);
+  }
+
+  @Override
+  public int unlinkTasks(long tagId, List<Long> taskIds) {
+    if (taskIds.isEmpty()) {
+      return 0;
+    }
+    bumpTaskVersions(taskIds);
+    return jdbcTemplate.update("DELETE FROM task_tag WHERE tag_id = ? AND task_id IN (" + placeholders(taskIds) + ")",
+        prepend(tagId, taskIds));
+  }
+
+  /**
+   * Inserts the target links with {@code INSERT ... SELECT ... WHERE NOT EXISTS}
+   * so that tasks carrying both Tags keep a single row, then deletes the
+   * source links.
+   */
+  @Override
+  public Relinked relinkTasks(long sourceTagId, long targetTagId, List<Long> taskIds) {
+    if (taskIds.isEmpty()) {
+      return new Relinked(0, 0);
+    }
+    bumpTaskVersions(taskIds);
+    List<Object> args = new ArrayList<>();
+    args.add(targetTagId);
+    args.add(sourceTagId);
+    args.addAll(taskIds);
+    args.add(targetTagId);
+    int added = jdbcTemplate.update("INSERT INTO task_tag (task_id, tag_id) SELECT s.task_id, ? FROM task_tag s "
+        + "WHERE s.tag_id = ? AND s.task_id IN (" + placeholders(taskIds) + ") AND NOT EXISTS "
+        + "(SELECT 1 FROM task_tag t WHERE t.task_id = s.task_id AND t.tag_id = ?)", args.toArray());
+    int removed = jdbcTemplate.update("DELETE FROM task_tag WHERE tag_id = ? AND task_id IN ("
+        + placeholders(taskIds) + ")", prepend(sourceTagId, taskIds));
+    return new Relinked(added, removed);
+  }
+
+  @Override
+  public boolean renameTag(long tagId, String name) {
+    boolean renamed = jdbcTemplate.update("UPDATE tags SET name = ?, version = version + 1 WHERE id = ?",
+        name, tagId) > 0;
+    evictCachedTag(tagId);
+    return renamed;
+  }
+
+  @Override
+  public boolean deleteTagRow(long tagId) {
+    boolean deleted = jdbcTemplate.update("DELETE FROM tags WHERE id = ?", tagId) > 0;
+    evictCachedTag(tagId);
+    return deleted;
+  }
+
+  private void bumpTaskVersions(List<Long> taskIds) {
+    jdbcTemplate.update("UPDATE tasks SET version = version + 1 WHERE id IN (" + placeholders(taskIds) + ")",
+        taskIds.toArray());
+  }
+
+  private static String placeholders(List<Long> ids) {
+    return String.join(", ", Collections.nCopies(ids.size(), "?"));
+  }
+
+  private static Object[] prepend(long first, List<Long> rest) {
+    Object[] args = new Object[rest.size() + 1];
+    args[0] = first;
+    for (int i = 0; i < rest.size(); i++) {
+      args[i + 1] = rest.get(i);
+    }
+    return args;
+  }
+
+  /**
+   * Evicts the second-level cached entity of a Tag that was changed with
+   * JDBC, together with the cached query results, now and again when the
+   * transaction ends.
+   */
+  private void evictCachedTag(long tagId) {
+    Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+    Runnable evict = () -> {
+      cache.evictEntityData(Tag.class, tagId);
+      cache.evictDefaultQueryRegion();
+    };
+    evict.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          evict.run();
+        }
+      });
+    }
+  }
+
+  /**
+   * Evicts cached query results now and again when the transaction ends, so a
+   * query run by another transaction in between can not keep a result that
+   * misses the new rows.
+   */
+  private void evictTagQueries() {
+    Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+    cache.evictDefaultQueryRegion();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          cache.evictDefaultQueryRegion();
+        }
+      });
+    }
+  }
+}
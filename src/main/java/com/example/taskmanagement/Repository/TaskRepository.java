@@ -1,22 +1,30 @@
 package com.example.taskmanagement.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.example.taskmanagement.Model.Task;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * This interface represents a repository for managing Task entities. It extends
  * the JpaRepository interface,
  * which provides CRUD operations and additional query methods.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
   /**
    * Finds a Task entity by its ID.
@@ -28,6 +36,41 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
   @Query("SELECT t FROM Task t WHERE t.id = :taskId")
   Optional<Task> findByTaskId(@Param("taskId") Long taskId);
 
+  /**
+   * Retrieves the ids and due dates of the tasks due in a date range that
+   * come after the given position in (due date, id) order, for keyset
+   * pagination over the {@code (due_date, id)} index.
+   *
+   * @param from     The first due date, inclusive.
+   * @param to       The last due date, inclusive.
+   * @param afterDay The due date of the last task of the previous page.
+   * @param afterId  The id of the last task of the previous page.
+   * @param pageable The number of rows to read; the sort is fixed.
+   * @return Rows of task id and due date.
+   */
+  @Query("SELECT t.id, t.dueDate FROM Task t WHERE t.dueDate BETWEEN :from AND :to "
+      + "AND (t.dueDate > :afterDay OR (t.dueDate = :afterDay AND t.id > :afterId)) ORDER BY t.dueDate, t.id")
+  List<Object[]> findDueKeysAfter(@Param("from") LocalDate from, @Param("to") LocalDate to,
+      @Param("afterDay") LocalDate afterDay, @Param("afterId") long afterId, Pageable pageable);
+
+  /**
+   * Same as {@link #findDueKeysAfter} restricted to one completion status,
+   * over the {@code (completed, due_date, id)} index.
+   *
+   * @param isCompleted The completion status to filter by.
+   * @param from        The first due date, inclusive.
+   * @param to          The last due date, inclusive.
+   * @param afterDay    The due date of the last task of the previous page.
+   * @param afterId     The id of the last task of the previous page.
+   * @param pageable    The number of rows to read; the sort is fixed.
+   * @return Rows of task id and due date.
+   */
+  @Query("SELECT t.id, t.dueDate FROM Task t WHERE t.completed = :isCompleted AND t.dueDate BETWEEN :from AND :to "
+      + "AND (t.dueDate > :afterDay OR (t.dueDate = :afterDay AND t.id > :afterId)) ORDER BY t.dueDate, t.id")
+  List<Object[]> findDueKeysByCompletedAfter(@Param("isCompleted") boolean isCompleted,
+      @Param("from") LocalDate from, @Param("to") LocalDate to,
+      @Param("afterDay") LocalDate afterDay, @Param("afterId") long afterId, Pageable pageable);
+
   /**
    * Finds all Task entities based on their completion status.
    *
@@ -38,4 +81,69 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
   @Query("SELECT t FROM Task t WHERE t.completed = :isCompleted")
   List<Task> findAllByCompleted(@Param("isCompleted") boolean isCompleted);
 
+  /**
+   * Finds the ids of the next page of tasks ordered by id, starting after the
+   * given id (keyset pagination).
+   *
+   * @param afterId  The id of the last Task of the previous page, 0 for the
+   *                 first page.
+   * @param pageable The page size; only the size is used, the offset is always 0.
+   * @return The Task ids greater than {@code afterId}.
+   */
+  @Query("SELECT t.id FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+  List<Long> findIdPageAfter(@Param("afterId") long afterId, Pageable pageable);
+
+  /**
+   * Finds the ids of the next page of tasks with the given completion status,
+   * ordered by id, starting after the given id (keyset pagination).
+   *
+   * @param isCompleted The completion status to filter Task entities by.
+   * @param afterId     The id of the last Task of the previous page, 0 for the
+   *                    first page.
+   * @param pageable    The page size; only the size is used, the offset is
+   *                    always 0.
+   * @return The matching Task ids greater than {@code afterId}.
+   */
+  @Query("SELECT t.id FROM Task t WHERE t.completed = :isCompleted AND t.id > :afterId ORDER BY t.id")
+  List<Long> findIdPageByCompletedAfter(@Param("isCompleted") boolean isCompleted,
+      @Param("afterId") long afterId, Pageable pageable);
+
+  /**
+   * Streams all Task entities in id order through a server-side cursor.
+   * The entities are read-only; the caller must consume the stream inside a
+   * transaction and close it.
+   *
+   * @return A stream of all Task entities.
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT t FROM Task t ORDER BY t.id")
+  Stream<Task> streamAll();
+
+  /**
+   * Streams the Task entities with the given completion status in id order
+   * through a server-side cursor.
+   *
+   * @param isCompleted The completion status to filter Task entities by.
+   * @return A stream of the matching Task entities.
+   * @see #streamAll()
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT t FROM Task t WHERE t.completed = :isCompleted ORDER BY t.id")
+  Stream<Task> streamAllByCompleted(@Param("isCompleted") boolean isCompleted);
+
+  /**
+   * Retrieves the tag names of the given tasks without loading Tag entities.
+   *
+   * @param taskIds The ids of the tasks.
+   * @return Rows of {@code [taskId, tagName]}.
+   */
+  @Query("SELECT t.id, g.name FROM Task t JOIN t.tags g WHERE t.id IN :taskIds")
+  List<Object[]> findTagNamesByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
 }
@@ -0,0 +1,98 @@
+package com.example.taskmanagement.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.example.taskmanagement.DTO.DueDayCountDTO;
+import com.example.taskmanagement.DTO.TaskPatchDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
+
+/**
+ * Task repository operations that build read models or write single columns
+ * and join rows instead of going through managed entities.
+ */
+public interface TaskRepositoryCustom {
+
+  /**
+   * Loads the read models of the given tasks, tags included, with a single
+   * query. Nothing is added to the persistence context.
+   *
+   * @param taskIds The ids of the tasks to load.
+   * @return The tasks in the order of {@code taskIds}; ids that do not exist
+   *         are skipped.
+   */
+  List<TaskViewDTO> findViewsByIds(List<Long> taskIds);
+
+  /**
+   * Applies the field changes of a patch with one UPDATE and increments the
+   * version, even when no field changes, so the row is locked until the
+   * transaction ends and readers see a new version after tag-only patches.
+   *
+   * @param taskId The id of the task.
+   * @param patch  The fields to change; null fields are left unchanged.
+   * @return Whether the task exists.
+   */
+  boolean patchTask(long taskId, TaskPatchDTO patch);
+
+  /**
+   * Reads the ids of the tags of a task.
+   *
+   * @param taskId The id of the task.
+   * @return The tag ids.
+   */
+  List<Long> findTagIdsByTaskId(long taskId);
+
+  /**
+   * Inserts the join rows between a task and the given tags.
+   *
+   * @param taskId The id of the task.
+   * @param tagIds Ids of tags the task does not carry yet.
+   */
+  void linkTags(long taskId, Collection<Long> tagIds);
+
+  /**
+   * Deletes the join rows between a task and the given tags.
+   *
+   * @param taskId The id of the task.
+   * @param tagIds Ids of tags the task carries.
+   */
+  void unlinkTags(long taskId, Collection<Long> tagIds);
+
+  /**
+   * Reads the due date and completion status of a task and locks its row
+   * until the transaction ends, so a patch knows which per-day bucket it
+   * moves the task out of.
+   *
+   * @param taskId The id of the task.
+   * @return The state, empty when the task does not exist.
+   */
+  Optional<DueState> lockDueState(long taskId);
+
+  /**
+   * Adds the given changes to the per-day due counts, creating missing days.
+   * Runs in the caller's transaction.
+   *
+   * @param deltas The changes, one per day; zero changes are skipped.
+   */
+  void adjustDueDayCounts(Collection<DueDayCountDTO> deltas);
+
+  /**
+   * Reads the per-day due counts of a date range, skipping days without tasks.
+   *
+   * @param from The first day, inclusive.
+   * @param to   The last day, inclusive.
+   * @return The counts in day order.
+   */
+  List<DueDayCountDTO> findDueDayCounts(LocalDate from, LocalDate to);
+
+  /**
+   * Due date and completion status of a task.
+   *
+   * @param dueDate   The due date, may be null.
+   * @param completed The completion status.
+   */
+  record DueState(LocalDate dueDate, boolean completed) {
+  }
+}
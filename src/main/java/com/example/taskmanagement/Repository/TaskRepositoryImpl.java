@@ -0,0 +1,206 @@
+package com.example.taskmanagement.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.example.taskmanagement.DTO.DueDayCountDTO;
+import com.example.taskmanagement.DTO.TagViewDTO;
+import com.example.taskmanagement.DTO.TaskPatchDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
+import com.example.taskmanagement.Model.Task;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.AllArgsConstructor;
+
+/**
+ * JPA implementation of {@link TaskRepositoryCustom}.
+ *
+ * <p>Join rows are written with native statements synchronized on the
+ * {@code task_tag} table only, so Hibernate invalidates the cached queries
+ * that read it and leaves the rest of the second-level cache alone.</p>
+ */
+@AllArgsConstructor
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+  private static final String VIEW_QUERY =
+      "SELECT t.id, t.tittle, t.completed, t.dueDate, t.version, g.id, g.name, g.dateCreated, g.version "
+          + "FROM Task t LEFT JOIN t.tags g WHERE t.id IN :taskIds";
+
+  private final EntityManager entityManager;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Selects scalar columns only, so Hibernate creates no entity instances,
+   * snapshots or dirty-checking work, and the tags come with the tasks in
+   * the same round trip.
+   */
+  @Override
+  public List<TaskViewDTO> findViewsByIds(List<Long> taskIds) {
+    if (taskIds.isEmpty()) {
+      return List.of();
+    }
+    List<Object[]> rows = entityManager.createQuery(VIEW_QUERY, Object[].class)
+        .setParameter("taskIds", taskIds)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultList();
+
+    Map<Long, Object[]> taskRows = new HashMap<>();
+    Map<Long, List<TagViewDTO>> tags = new HashMap<>();
+    for (Object[] row : rows) {
+      Long taskId = (Long) row[0];
+      taskRows.putIfAbsent(taskId, row);
+      List<TagViewDTO> taskTags = tags.computeIfAbsent(taskId, id -> new ArrayList<>());
+      if (row[5] != null) {
+        taskTags.add(new TagViewDTO((Long) row[5], (String) row[6], (LocalDate) row[7], (Long) row[8]));
+      }
+    }
+
+    List<TaskViewDTO> views = new ArrayList<>(taskRows.size());
+    for (Long taskId : taskIds) {
+      Object[] row = taskRows.get(taskId);
+      if (row == null) {
+        continue;
+      }
+      List<TagViewDTO> taskTags = tags.get(taskId);
+      taskTags.sort(Comparator.comparing(TagViewDTO::id));
+      views.add(new TaskViewDTO(taskId, (String) row[1], (Boolean) row[2], (LocalDate) row[3], taskTags,
+          (Long) row[4]));
+    }
+    return views;
+  }
+
+  @Override
+  public boolean patchTask(long taskId, TaskPatchDTO patch) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+    Root<Task> task = update.from(Task.class);
+    if (patch.tittle() != null) {
+      update.set(task.<String>get("tittle"), patch.tittle());
+    }
+    if (patch.completed() != null) {
+      update.set(task.<Boolean>get("completed"), patch.completed());
+    }
+    if (Boolean.TRUE.equals(patch.clearDueDate())) {
+      update.set(task.<LocalDate>get("dueDate"), builder.nullLiteral(LocalDate.class));
+    } else if (patch.dueDate() != null) {
+      update.set(task.<LocalDate>get("dueDate"), patch.dueDate());
+    }
+    update.set(task.<Long>get("version"), builder.sum(task.<Long>get("version"), 1L));
+    update.where(builder.equal(task.get("id"), taskId));
+    return entityManager.createQuery(update).executeUpdate() > 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<Long> findTagIdsByTaskId(long taskId) {
+    List<Number> ids = entityManager.createNativeQuery("SELECT tag_id FROM task_tag WHERE task_id = :taskId")
+        .setParameter("taskId", taskId)
+        .getResultList();
+    return ids.stream().map(Number::longValue).toList();
+  }
+
+  @Override
+  public void linkTags(long taskId, Collection<Long> tagIds) {
+    if (tagIds.isEmpty()) {
+      return;
+    }
+    joinRowStatement("INSERT INTO task_tag (task_id, tag_id) SELECT :taskId, g.id FROM tags g WHERE g.id IN :tagIds")
+        .setParameter("taskId", taskId)
+        .setParameter("tagIds", tagIds)
+        .executeUpdate();
+  }
+
+  @Override
+  public void unlinkTags(long taskId, Collection<Long> tagIds) {
+    if (tagIds.isEmpty()) {
+      return;
+    }
+    joinRowStatement("DELETE FROM task_tag WHERE task_id = :taskId AND tag_id IN :tagIds")
+        .setParameter("taskId", taskId)
+        .setParameter("tagIds", tagIds)
+        .executeUpdate();
+  }
+
+  private NativeQuery<?> joinRowStatement(String sql) {
+    return entityManager.createNativeQuery(sql).unwrap(NativeQuery.class).addSynchronizedQuerySpace("task_tag");
+  }
+
+  @Override
+  public Optional<DueState> lockDueState(long taskId) {
+    List<?> rows = entityManager.createNativeQuery("SELECT due_date, completed FROM tasks WHERE id = :taskId FOR UPDATE")
+        .setParameter("taskId", taskId)
+        .getResultList();
+    if (rows.isEmpty()) {
+      return Optional.empty();
+    }
+    Object[] row = (Object[]) rows.get(0);
+    return Optional.of(new DueState(toLocalDate(row[0]), toBoolean(row[1])));
+  }
+
+  /**
+   * Uses {@code INSERT ... ON DUPLICATE KEY UPDATE} so that the first task of
+   * a day creates its row without a read. Days are written in order so that
+   * concurrent writers lock them in the same order.
+   */
+  @Override
+  public void adjustDueDayCounts(Collection<DueDayCountDTO> deltas) {
+    List<DueDayCountDTO> rows = deltas.stream()
+        .filter(delta -> delta.taskCount() != 0 || delta.openCount() != 0)
+        .sorted(Comparator.comparing(DueDayCountDTO::day))
+        .toList();
+    if (rows.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate("INSERT INTO task_due_day_counts (due_day, task_count, open_count) VALUES (?, ?, ?) "
+        + "ON DUPLICATE KEY UPDATE task_count = task_count + VALUES(task_count), "
+        + "open_count = open_count + VALUES(open_count)", rows, rows.size(), (ps, row) -> {
+          ps.setDate(1, Date.valueOf(row.day()));
+          ps.setLong(2, row.taskCount());
+          ps.setLong(3, row.openCount());
+        });
+  }
+
+  @Override
+  public List<DueDayCountDTO> findDueDayCounts(LocalDate from, LocalDate to) {
+    return jdbcTemplate.query("SELECT due_day, task_count, open_count FROM task_due_day_counts "
+        + "WHERE due_day BETWEEN ? AND ? AND task_count > 0 ORDER BY due_day",
+        (rs, rowNum) -> new DueDayCountDTO(rs.getDate("due_day").toLocalDate(), rs.getLong("task_count"),
+            rs.getLong("open_count")),
+        Date.valueOf(from), Date.valueOf(to));
+  }
+
+  private static LocalDate toLocalDate(Object value) {
+    if (value instanceof Date date) {
+      return date.toLocalDate();
+    }
+    return (LocalDate) value;
+  }
+
+  /**
+   * MySQL returns a BIT(1) column as a Boolean or a byte array, depending on
+   * the driver settings.
+   */
+  private static boolean toBoolean(Object value) {
+    if (value instanceof byte[] bytes) {
+      return bytes.length > 0 && bytes[0] != 0;
+    }
+    if (value instanceof Number number) {
+      return number.intValue() != 0;
+    }
+    return Boolean.TRUE.equals(value);
+  }
+}
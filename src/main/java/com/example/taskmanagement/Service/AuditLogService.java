@@ -1,26 +1,114 @@
 package com.example.taskmanagement.Service;
 
 import com.example.taskmanagement.Model.AuditLog;
-import com.example.taskmanagement.Repository.AuditLogRepository;
-import lombok.AllArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This service class is responsible for handling audit log operations.
  * It provides a method to log audit events related to different entities.
+ *
+ * <p>Events are not written on the calling thread. They are placed on a bounded
+ * in-memory queue and a background writer flushes them to the {@code audit_log}
+ * table in JDBC batches, either when a batch is full or when the flush interval
+ * elapses, whichever comes first. What happens when the queue is full is decided
+ * by the configured {@link OverflowPolicy}.</p>
  */
-@AllArgsConstructor
+@Slf4j
 @Service
 public class AuditLogService {
 
     /**
-     * The repository for storing audit logs.
+     * What {@link #log} does when the write-behind queue is full.
      */
-    @Autowired
-    private AuditLogRepository auditLogRepository;
+    public enum OverflowPolicy {
+        /** Wait for the writer to free up space. */
+        BLOCK,
+        /** Discard the oldest queued event to make room for the new one. */
+        DROP_OLDEST,
+        /** Write the event synchronously on the calling thread. */
+        SYNC
+    }
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_log (entity_name, action, username, details, timestamp) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AuditLogService(JdbcTemplate jdbcTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${audit.write-behind.capacity:10000}") int capacity,
+                           @Value("${audit.write-behind.batch-size:200}") int batchSize,
+                           @Value("${audit.write-behind.flush-interval-ms:500}") long flushIntervalMillis,
+                           @Value("${audit.write-behind.overflow-policy:SYNC}") OverflowPolicy overflowPolicy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.overflowPolicy = overflowPolicy;
+        this.flushTimer = Timer.builder("audit.flush.latency")
+                .description("Time taken to write one batch of audit events")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.dropped")
+                .description("Audit events discarded because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+        this.writer = new Thread(this::drainLoop, "audit-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Starts the background writer.
+     */
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    /**
+     * Stops accepting queued events and flushes everything that is still pending
+     * before the datasource is closed. Events logged from then on are written
+     * synchronously.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            writer.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final List<AuditLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        flush(remaining);
+    }
 
     /**
      * Logs an audit event for a specific entity.
@@ -37,6 +125,92 @@ public class AuditLogService {
         auditLog.setUsername(username);
         auditLog.setDetails(details);
         auditLog.setTimestamp(LocalDateTime.now());
-        auditLogRepository.save(auditLog);
+
+        if (!running) {
+            flush(new ArrayList<>(List.of(auditLog)));
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    queue.put(auditLog);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    flush(new ArrayList<>(List.of(auditLog)));
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(auditLog)) {
+                    if (queue.poll() != null) {
+                        droppedCounter.increment();
+                    }
+                }
+            }
+            case SYNC -> {
+                if (!queue.offer(auditLog)) {
+                    flush(new ArrayList<>(List.of(auditLog)));
+                }
+            }
+        }
+
+        // shutdown may have stopped and taken its last drain between the check
+        // above and the enqueue; the event would then never be written
+        if (!running) {
+            final List<AuditLog> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            flush(remaining);
+        }
+    }
+
+    /**
+     * Background loop that collects queued events and flushes them once the batch
+     * is full or the flush interval has elapsed.
+     */
+    private void drainLoop() {
+        final List<AuditLog> batch = new ArrayList<>(batchSize);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+
+        while (running || !queue.isEmpty()) {
+            try {
+                final long wait = deadline - System.nanoTime();
+                final AuditLog head = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : queue.poll();
+                if (head != null) {
+                    batch.add(head);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (batch.size() >= batchSize || System.nanoTime() - deadline >= 0) {
+                flush(batch);
+                deadline = System.nanoTime() + flushIntervalNanos;
+            }
+        }
+        flush(batch);
+    }
+
+    /**
+     * Writes the given events in a single JDBC batch and clears the list.
+     */
+    private void flush(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, auditLog) -> {
+                ps.setString(1, auditLog.getEntityName());
+                ps.setString(2, auditLog.getAction());
+                ps.setString(3, auditLog.getUsername());
+                ps.setString(4, auditLog.getDetails());
+                ps.setTimestamp(5, Timestamp.valueOf(auditLog.getTimestamp()));
+            }));
+        } catch (DataAccessException e) {
+            log.error("Failed to write {} audit events", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
     }
 }
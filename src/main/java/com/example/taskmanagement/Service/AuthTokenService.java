@@ -0,0 +1,144 @@
+package com.example.taskmanagement.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.example.taskmanagement.DTO.AuthTokenDTO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues and verifies short-lived, HMAC-SHA256 signed bearer tokens.
+ *
+ * <p>A token is {@code base64url(username|expiry)} followed by a dot and the
+ * base64url signature of that payload. Verifying it costs one HMAC instead of
+ * the BCrypt check that HTTP Basic runs on every request, and needs no server
+ * side state. When {@code auth.token.secret} is blank a random key is used,
+ * so tokens do not survive a restart and are not accepted by other
+ * instances.</p>
+ */
+@Slf4j
+@Service
+public class AuthTokenService {
+
+    /** The token type returned to clients and expected in the Authorization header. */
+    public static final String TOKEN_TYPE = "Bearer";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '|';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+    /** Initialized with the key and never used directly, only cloned. */
+    private final Mac prototype;
+
+    public AuthTokenService(@Value("${auth.token.secret:}") String secret,
+                            @Value("${auth.token.ttl:15m}") Duration ttl) {
+        this(secret, ttl, Clock.systemUTC());
+    }
+
+    AuthTokenService(String secret, Duration ttl, Clock clock) {
+        final byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            log.warn("auth.token.secret is not set, using a random key; tokens will not survive a restart");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+        this.prototype = newMac();
+    }
+
+    /**
+     * Issues a token for an already authenticated user.
+     *
+     * @param username The name of the authenticated user.
+     * @return The token and its expiry.
+     */
+    public AuthTokenDTO issue(final String username) {
+        final Instant expiresAt = clock.instant().plus(ttl);
+        final String payload = ENCODER.encodeToString(
+                (username + SEPARATOR + expiresAt.getEpochSecond()).getBytes(StandardCharsets.UTF_8));
+        final String token = payload + '.' + ENCODER.encodeToString(sign(payload));
+        return new AuthTokenDTO(token, TOKEN_TYPE, expiresAt, ttl.toSeconds());
+    }
+
+    /**
+     * Checks the signature and expiry of a token.
+     *
+     * @param token The token sent by the client.
+     * @return The username the token was issued to, or empty when the token is
+     *         malformed, forged or expired.
+     */
+    public Optional<String> verify(final String token) {
+        final int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        final String payload = token.substring(0, dot);
+        try {
+            final byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(payload))) {
+                return Optional.empty();
+            }
+            final String claims = new String(DECODER.decode(payload), StandardCharsets.UTF_8);
+            final int separator = claims.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                return Optional.empty();
+            }
+            final long expiresAt = Long.parseLong(claims.substring(separator + 1));
+            if (clock.instant().getEpochSecond() >= expiresAt) {
+                return Optional.empty();
+            }
+            return Optional.of(claims.substring(0, separator));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(final String payload) {
+        return mac().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Clones the keyed prototype, which skips the provider lookup and key setup.
+     * A clone per call rather than a thread-local instance, because virtual
+     * threads are not reused and would each create and keep their own Mac.
+     */
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return newMac();
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
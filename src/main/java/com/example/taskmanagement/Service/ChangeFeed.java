@@ -0,0 +1,302 @@
+package com.example.taskmanagement.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.taskmanagement.DTO.ChangeEventDTO;
+import com.example.taskmanagement.DTO.DueReminderDTO;
+import com.example.taskmanagement.event.ChangeType;
+import com.example.taskmanagement.event.TagChangedEvent;
+import com.example.taskmanagement.event.TagMergedEvent;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events feed of committed task and tag writes.
+ *
+ * <p>Every event is serialized once and appended to a small ring of recent
+ * events, then offered to the bounded queue of each subscriber. Queues are
+ * drained by a small pool of sender threads, or by virtual threads when those
+ * are enabled, so an idle subscriber holds no thread, only its emitter and an
+ * empty queue. A subscriber whose queue overflows is disconnected; the client
+ * reconnects with {@code Last-Event-ID} and is replayed from the ring. When
+ * the gap can no longer be replayed the client gets a {@code reset} event and
+ * should reload the collections it shows.</p>
+ *
+ * <p>Event ids are {@code <boot id>-<sequence>}, so ids from an earlier run of
+ * the application are recognised as not replayable. Like the other in-memory
+ * indexes, this assumes every write goes through this instance.</p>
+ */
+@Slf4j
+@Service
+public class ChangeFeed {
+
+    private static final String RESET_EVENT = "reset";
+
+    private final String bootId = Long.toString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE, 36);
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    /** Recent events by sequence modulo the length, guarded by {@code this}. */
+    private final Entry[] ring;
+    /** Sequence of the last published event, guarded by {@code this}. */
+    private long sequence;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final Counter droppedCounter;
+
+    public ChangeFeed(ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${events.timeout:30m}") Duration timeout,
+                      @Value("${events.buffer-size:256}") int bufferSize,
+                      @Value("${events.replay-size:1024}") int replaySize,
+                      @Value("${events.sender-threads:4}") int senderThreads,
+                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferSize = bufferSize;
+        this.ring = new Entry[replaySize];
+        if (virtualThreads) {
+            // A virtual thread per drain: a client stuck in a write parks its thread without starving the others
+            this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("events-sender-", 0).factory());
+        } else {
+            final AtomicInteger threads = new AtomicInteger();
+            this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+                final Thread thread = new Thread(runnable, "events-sender-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.droppedCounter = Counter.builder("events.dropped")
+                .description("Subscribers disconnected because they could not keep up")
+                .register(meterRegistry);
+        Gauge.builder("events.subscribers", subscribers, Set::size)
+                .description("Open change feed connections")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Opens a subscription, replaying the events after {@code lastEventId}.
+     *
+     * @param lastEventId The Last-Event-ID sent by a reconnecting client, or
+     *                    null for a new client.
+     * @return The emitter to return from the controller.
+     */
+    public SseEmitter subscribe(final String lastEventId) {
+        return subscribe(new SseEmitter(timeoutMillis), lastEventId);
+    }
+
+    /**
+     * Opens a subscription on the given emitter.
+     *
+     * @param emitter     The emitter to send the events to.
+     * @param lastEventId The Last-Event-ID sent by a reconnecting client, or
+     *                    null for a new client.
+     * @return The emitter.
+     */
+    public SseEmitter subscribe(final SseEmitter emitter, final String lastEventId) {
+        final Subscriber subscriber = new Subscriber(emitter, new LinkedBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        // Replay and registration happen under the publishing lock, so no event is missed or sent twice
+        synchronized (this) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId.trim());
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(final TaskChangedEvent event) {
+        publish("task", new ChangeEventDTO(event.type(), event.taskId(), event.tittle(), event.completed(),
+                event.tagIds(), null));
+    }
+
+    @TransactionalEventListener
+    public void onTagChanged(final TagChangedEvent event) {
+        publish("tag", new ChangeEventDTO(event.type(), event.tagId(), null, null, null, event.name()));
+    }
+
+    /**
+     * Publishes a merge as the delete of the source tag followed by an update
+     * of the target tag.
+     */
+    @TransactionalEventListener
+    public void onTagMerged(final TagMergedEvent event) {
+        publish("tag", new ChangeEventDTO(ChangeType.DELETED, event.sourceTagId(), null, null, null,
+                event.sourceName()));
+        publish("tag", new ChangeEventDTO(ChangeType.UPDATED, event.targetTagId(), null, null, null,
+                event.targetName()));
+    }
+
+    /**
+     * Publishes a due-date reminder as a {@code due} event.
+     */
+    public void publishReminder(final DueReminderDTO reminder) {
+        publish("due", reminder);
+    }
+
+    /**
+     * Keeps idle connections open through proxies and finds clients that went
+     * away without closing the connection.
+     */
+    @Scheduled(fixedDelayString = "${events.heartbeat-ms:30000}")
+    public void heartbeat() {
+        for (final Subscriber subscriber : subscribers) {
+            offer(subscriber, Entry.HEARTBEAT);
+        }
+    }
+
+    private void publish(final String name, final Object payload) {
+        final String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize change event {}", payload, e);
+            return;
+        }
+        synchronized (this) {
+            sequence++;
+            final Entry entry = new Entry(sequence, bootId + "-" + sequence, name, data);
+            ring[(int) (sequence % ring.length)] = entry;
+            for (final Subscriber subscriber : subscribers) {
+                offer(subscriber, entry);
+            }
+        }
+    }
+
+    /**
+     * Queues the events after the given id, or a reset event when they are no
+     * longer in the ring or would not fit in the subscriber's queue.
+     */
+    private void replay(final Subscriber subscriber, final String lastEventId) {
+        final long oldest = Math.max(1, sequence - ring.length + 1);
+        final long last = parseSequence(lastEventId);
+        if (last < oldest - 1 || last > sequence || sequence - last > bufferSize) {
+            subscriber.queue.offer(new Entry(sequence, bootId + "-" + sequence, RESET_EVENT, "{}"));
+            return;
+        }
+        for (long next = last + 1; next <= sequence; next++) {
+            subscriber.queue.offer(ring[(int) (next % ring.length)]);
+        }
+    }
+
+    /**
+     * @return The sequence of an id of this run, or -1 when the id is malformed
+     *         or comes from another run.
+     */
+    private long parseSequence(final String eventId) {
+        final int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(bootId)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void offer(final Subscriber subscriber, final Entry entry) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.queue.offer(entry)) {
+            // Slow consumer: disconnect instead of buffering without bound or holding up the writer
+            subscriber.closed = true;
+            subscriber.queue.clear();
+            subscribers.remove(subscriber);
+            droppedCounter.increment();
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(final Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(final Subscriber subscriber) {
+        do {
+            Entry entry;
+            while (!subscriber.closed && (entry = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(entry.toEvent());
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away; the emitter callbacks remove it
+                    subscriber.closed = true;
+                    subscribers.remove(subscriber);
+                    return;
+                }
+            }
+            if (subscriber.closed) {
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private record Entry(long sequence, String id, String name, String data) {
+
+        static final Entry HEARTBEAT = new Entry(0, null, null, null);
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("keep-alive");
+            }
+            return SseEmitter.event().id(id).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private static final class Subscriber {
+
+        final SseEmitter emitter;
+        final BlockingQueue<Entry> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscriber(final SseEmitter emitter, final BlockingQueue<Entry> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
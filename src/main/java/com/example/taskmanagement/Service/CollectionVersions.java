@@ -0,0 +1,89 @@
+package com.example.taskmanagement.Service;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.taskmanagement.event.TagChangedEvent;
+import com.example.taskmanagement.event.TagMergedEvent;
+import com.example.taskmanagement.event.TaskChangedEvent;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * High-water marks of the task and tag collections, used to build ETags for
+ * the read endpoints without loading anything.
+ *
+ * <p>Each mark is bumped by the committed change events that can alter the
+ * responses built from that collection. The boot id makes ETags from an
+ * earlier run of the application never match. Like the other in-memory
+ * indexes, this assumes every write goes through this instance.</p>
+ */
+@Component
+public class CollectionVersions {
+
+    private final String bootId = Long.toString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE, 36);
+    /** Task rows and their tag links. */
+    private final AtomicLong tasks = new AtomicLong();
+    /** Tag rows. */
+    private final AtomicLong tags = new AtomicLong();
+    /** Task counts per tag. */
+    private final AtomicLong tagCounts = new AtomicLong();
+
+    /**
+     * Task responses embed their tags, so a tag change counts as a task change.
+     */
+    @TransactionalEventListener
+    public void onTagChanged(final TagChangedEvent event) {
+        tags.incrementAndGet();
+        tasks.incrementAndGet();
+    }
+
+    /**
+     * A merge deletes a tag and moves task links, which changes all three.
+     */
+    @TransactionalEventListener
+    public void onTagMerged(final TagMergedEvent event) {
+        tags.incrementAndGet();
+        tasks.incrementAndGet();
+        tagCounts.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(final TaskChangedEvent event) {
+        tasks.incrementAndGet();
+        if (!event.tagIds().equals(event.previousTagIds())) {
+            tagCounts.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return The ETag of the task listings.
+     */
+    public String tasksETag() {
+        return eTag("tasks", tasks.get());
+    }
+
+    /**
+     * @return The ETag of the tag listings, which include task counts.
+     */
+    public String tagsETag() {
+        return eTag("tags", tags.get(), tagCounts.get());
+    }
+
+    /**
+     * @param tagId The id of the tag.
+     * @return The ETag of a tag with its tasks.
+     */
+    public String tagWithTasksETag(final long tagId) {
+        return eTag("tag-" + tagId, tags.get(), tasks.get());
+    }
+
+    private String eTag(final String collection, final long... marks) {
+        final StringBuilder eTag = new StringBuilder("\"").append(collection).append('-').append(bootId);
+        for (final long mark : marks) {
+            eTag.append('-').append(mark);
+        }
+        return eTag.append('"').toString();
+    }
+}
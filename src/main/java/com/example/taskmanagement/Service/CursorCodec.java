@@ -0,0 +1,93 @@
+package com.example.taskmanagement.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.example.taskmanagement.exception.types.ValidationException;
+
+/**
+ * Encodes and decodes the opaque cursors used by keyset-paginated endpoints.
+ * A cursor wraps the id of the last item of the previous page, or its due
+ * date and id for listings ordered by due date.
+ */
+public final class CursorCodec {
+
+  private CursorCodec() {
+  }
+
+  /**
+   * Encodes the id of the last returned item as an opaque cursor.
+   *
+   * @param lastId The id of the last item on the current page.
+   * @return The URL-safe cursor string.
+   */
+  public static String encode(long lastId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Decodes a cursor produced by {@link #encode(long)}.
+   *
+   * @param cursor The cursor sent by the client, may be null or blank.
+   * @return The id to continue after, or 0 when no cursor was sent.
+   * @throws ValidationException If the cursor is malformed.
+   */
+  public static long decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return 0L;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+      return Long.parseLong(raw);
+    } catch (IllegalArgumentException e) {
+      throw new ValidationException("Invalid cursor: " + cursor);
+    }
+  }
+
+  /**
+   * Encodes the due date and id of the last returned item as an opaque cursor.
+   *
+   * @param lastDay The due date of the last item on the current page.
+   * @param lastId  The id of the last item on the current page.
+   * @return The URL-safe cursor string.
+   */
+  public static String encode(LocalDate lastDay, long lastId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((lastDay + ":" + lastId).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Decodes a cursor produced by {@link #encode(LocalDate, long)}.
+   *
+   * @param cursor The cursor sent by the client, may be null or blank.
+   * @return The position to continue after, or null when no cursor was sent.
+   * @throws ValidationException If the cursor is malformed.
+   */
+  public static DueCursor decodeDue(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+      int separator = raw.indexOf(':');
+      if (separator < 0) {
+        throw new ValidationException("Invalid cursor: " + cursor);
+      }
+      return new DueCursor(LocalDate.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new ValidationException("Invalid cursor: " + cursor);
+    }
+  }
+
+  /**
+   * Position in a listing ordered by due date, then id.
+   *
+   * @param day The due date of the last returned item.
+   * @param id  The id of the last returned item.
+   */
+  public record DueCursor(LocalDate day, long id) {
+  }
+}
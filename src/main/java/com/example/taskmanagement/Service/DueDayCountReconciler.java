@@ -0,0 +1,110 @@
+package com.example.taskmanagement.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.taskmanagement.DTO.DueDayCountDTO;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically recomputes the per-day due counts from the tasks table and
+ * repairs the days that drifted, for example after manual edits to the
+ * database.
+ *
+ * <p>Finding the drifted days reads both tables without locking, so a task
+ * write committed in between can make a consistent day look drifted. The
+ * repair therefore never writes the values read: every drifted day is
+ * recomputed by a single statement, like {@link TagCountReconciler} does for
+ * the tag counters, and a day that was consistent is simply rewritten with
+ * the same counts.</p>
+ */
+@Slf4j
+@AllArgsConstructor
+@Service
+public class DueDayCountReconciler {
+
+    private static final String ACTUAL_QUERY =
+            "SELECT due_date, COUNT(*) AS task_count, SUM(CASE WHEN completed = FALSE THEN 1 ELSE 0 END) AS open_count "
+                    + "FROM tasks WHERE due_date IS NOT NULL GROUP BY due_date";
+
+    private static final String STORED_QUERY =
+            "SELECT due_day, task_count, open_count FROM task_due_day_counts";
+
+    /** Creates the row of a day that has tasks but no counts yet, leaving an existing row untouched. */
+    private static final String INSERT_MISSING_STATEMENT =
+            "INSERT INTO task_due_day_counts (due_day, task_count, open_count) VALUES (?, 0, 0) "
+                    + "ON DUPLICATE KEY UPDATE due_day = due_day";
+
+    private static final String REPAIR_STATEMENT =
+            "UPDATE task_due_day_counts SET task_count = (SELECT COUNT(*) FROM tasks WHERE due_date = ?), "
+                    + "open_count = (SELECT COUNT(*) FROM tasks WHERE due_date = ? AND completed = FALSE) "
+                    + "WHERE due_day = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Compares the stored count of every day with the tasks due that day, logs
+     * the drift and recomputes the days that differ.
+     *
+     * @return The number of days whose counts had drifted.
+     */
+    @Scheduled(cron = "${tasks.due-day-counts.reconciliation.cron:0 30 3 * * *}")
+    public int reconcile() {
+        final Map<LocalDate, DueDayCountDTO> actual = new HashMap<>();
+        jdbcTemplate.query(ACTUAL_QUERY, rs -> {
+            final LocalDate day = rs.getDate("due_date").toLocalDate();
+            actual.put(day, new DueDayCountDTO(day, rs.getLong("task_count"), rs.getLong("open_count")));
+        });
+        final Map<LocalDate, DueDayCountDTO> stored = new HashMap<>();
+        jdbcTemplate.query(STORED_QUERY, rs -> {
+            final LocalDate day = rs.getDate("due_day").toLocalDate();
+            stored.put(day, new DueDayCountDTO(day, rs.getLong("task_count"), rs.getLong("open_count")));
+        });
+
+        final List<DueDayCountDTO> repairs = new ArrayList<>();
+        final List<LocalDate> missing = new ArrayList<>();
+        actual.forEach((day, count) -> {
+            if (!count.equals(stored.get(day))) {
+                repairs.add(count);
+                if (!stored.containsKey(day)) {
+                    missing.add(day);
+                }
+            }
+        });
+        stored.forEach((day, count) -> {
+            if (!actual.containsKey(day) && (count.taskCount() != 0 || count.openCount() != 0)) {
+                repairs.add(new DueDayCountDTO(day, 0, 0));
+            }
+        });
+        if (repairs.isEmpty()) {
+            log.info("Due day counts are consistent");
+            return 0;
+        }
+
+        for (final DueDayCountDTO repair : repairs) {
+            log.warn("Due day {} count drifted: stored {}, actual {}", repair.day(), stored.get(repair.day()), repair);
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MISSING_STATEMENT, missing, missing.size(),
+                    (ps, day) -> ps.setDate(1, Date.valueOf(day)));
+        }
+        jdbcTemplate.batchUpdate(REPAIR_STATEMENT, repairs, repairs.size(), (ps, repair) -> {
+            final Date day = Date.valueOf(repair.day());
+            ps.setDate(1, day);
+            ps.setDate(2, day);
+            ps.setDate(3, day);
+        });
+        log.warn("Repaired the counts of {} due days", repairs.size());
+        return repairs.size();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanagement.Service;
+
+import com.example.taskmanagement.DTO.DueReminderDTO;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs the reminders. The default sink.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reminders.sink", havingValue = "log", matchIfMissing = true)
+public class LogReminderSink implements ReminderSink {
+
+    @Override
+    public void publish(final DueReminderDTO reminder) {
+        log.info("Task {} '{}' is due {}", reminder.taskId(), reminder.tittle(), reminder.dueDate());
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.taskmanagement.Service;
+
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.example.taskmanagement.DTO.DueReminderDTO;
+import com.example.taskmanagement.event.ChangeType;
+import com.example.taskmanagement.event.TaskChangedEvent;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fires a reminder when a task that is not completed becomes due, at
+ * {@code reminders.due-time} of its due date in the server time zone.
+ *
+ * <p>Pending reminders are timers of a {@link TimingWheel}, so creating,
+ * moving and cancelling one is O(1) however many tasks are due. Only the
+ * tasks due within {@code reminders.look-ahead-days} are held in memory: the
+ * wheel starts empty, and every tick loads at most one more window of
+ * {@code reminders.window-days} from the {@code (completed, due_date, id)}
+ * index until the horizon is reached again, so a restart does not read every
+ * open task at once. Committed {@link TaskChangedEvent}s move or cancel the
+ * timers of the tasks inside the horizon; tasks beyond it are picked up by
+ * the loader when their window comes. Reminders whose time passed while the
+ * application was down are not fired.</p>
+ *
+ * <p>The lag between the due time and the actual firing is recorded in the
+ * {@code reminders.lag} timer, next to the {@code reminders.pending} gauge and
+ * the {@code reminders.fired} and {@code reminders.sink.failures} counters.
+ * Like the other in-memory indexes, this assumes every write goes through
+ * this instance.</p>
+ */
+@Slf4j
+@Service
+public class ReminderScheduler {
+
+    private static final String WINDOW_QUERY =
+            "SELECT id, tittle, due_date FROM tasks WHERE completed = FALSE AND due_date >= ? AND due_date < ? "
+                    + "AND (due_date > ? OR (due_date = ? AND id > ?)) ORDER BY due_date, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReminderSink sink;
+    private final LocalTime dueTime;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final int lookAheadDays;
+    private final int windowDays;
+    private final int batchSize;
+    private final Timer lagTimer;
+    private final Counter firedCounter;
+    private final Counter failureCounter;
+
+    // Guarded by this
+    private final TimingWheel<Reminder> wheel;
+    private final Map<Long, TimingWheel.Timer<Reminder>> timersByTask = new HashMap<>();
+    /** Tasks written while a window is loading, whose rows read by the loader may be stale. */
+    private final Set<Long> writtenWhileLoading = new HashSet<>();
+    /** End of the loaded window, exclusive, including the one being loaded. */
+    private LocalDate horizon;
+    private boolean loading;
+
+    public ReminderScheduler(JdbcTemplate jdbcTemplate,
+                             ReminderSink sink,
+                             MeterRegistry meterRegistry,
+                             @Value("${reminders.due-time:09:00}") String dueTime,
+                             @Value("${reminders.tick-ms:1000}") long tickMillis,
+                             @Value("${reminders.wheel-size:512}") int wheelSize,
+                             @Value("${reminders.look-ahead-days:2}") int lookAheadDays,
+                             @Value("${reminders.window-days:1}") int windowDays,
+                             @Value("${reminders.load-batch-size:1000}") int batchSize) {
+        if (lookAheadDays < 1 || windowDays < 1 || batchSize < 1) {
+            throw new IllegalArgumentException(
+                    "reminders.look-ahead-days, window-days and load-batch-size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.sink = sink;
+        this.dueTime = LocalTime.parse(dueTime);
+        this.lookAheadDays = lookAheadDays;
+        this.windowDays = windowDays;
+        this.batchSize = batchSize;
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        this.horizon = LocalDate.now(zone);
+        this.lagTimer = Timer.builder("reminders.lag")
+                .description("Delay between the due time of a reminder and its firing")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.firedCounter = Counter.builder("reminders.fired")
+                .description("Reminders handed to the sink")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("reminders.sink.failures")
+                .description("Reminders the sink threw on")
+                .register(meterRegistry);
+        Gauge.builder("reminders.pending", this, ReminderScheduler::pending)
+                .description("Reminders scheduled in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Moves, schedules or cancels the reminder of a written task.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(final TaskChangedEvent event) {
+        final boolean due = event.type() != ChangeType.DELETED && !event.completed() && event.dueDate() != null;
+        final long deadline = due ? deadline(event.dueDate()) : 0;
+        final long now = System.currentTimeMillis();
+        synchronized (this) {
+            if (loading) {
+                writtenWhileLoading.add(event.taskId());
+            }
+            cancel(event.taskId());
+            if (due && event.dueDate().isBefore(horizon) && deadline > now) {
+                schedule(new Reminder(event.taskId(), event.tittle(), event.dueDate()), deadline);
+            }
+        }
+    }
+
+    /**
+     * Fires the reminders that are due, then loads the next window when the
+     * horizon is closer than the look-ahead.
+     */
+    @Scheduled(fixedDelayString = "${reminders.tick-ms:1000}")
+    public void tick() {
+        final long now = System.currentTimeMillis();
+        final List<TimingWheel.Timer<Reminder>> fired = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(now, timer -> {
+                timersByTask.remove(timer.payload().taskId(), timer);
+                fired.add(timer);
+            });
+        }
+        // Outside the lock, so that a slow sink does not hold up task writes
+        for (final TimingWheel.Timer<Reminder> timer : fired) {
+            final Reminder reminder = timer.payload();
+            lagTimer.record(Math.max(0, now - timer.deadline()), TimeUnit.MILLISECONDS);
+            try {
+                sink.publish(new DueReminderDTO(reminder.taskId(), reminder.tittle(), reminder.dueDate(),
+                        Instant.ofEpochMilli(timer.deadline()), Instant.ofEpochMilli(now)));
+                firedCounter.increment();
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+                log.error("Reminder sink failed for task {}", reminder.taskId(), e);
+            }
+        }
+        loadNextWindow();
+    }
+
+    /**
+     * @return True when a reminder of the task is pending in memory.
+     */
+    public synchronized boolean isScheduled(final long taskId) {
+        return timersByTask.containsKey(taskId);
+    }
+
+    /**
+     * @return The end, exclusive, of the due dates whose reminders are held in
+     *         memory or being loaded.
+     */
+    public synchronized LocalDate horizon() {
+        return horizon;
+    }
+
+    /**
+     * @return The number of reminders pending in memory.
+     */
+    public synchronized int pending() {
+        return wheel.size();
+    }
+
+    /**
+     * Reads the open tasks of the window after the horizon in keyset pages
+     * and schedules their reminders. The horizon is moved before reading, so
+     * that writes committed during the read are scheduled by
+     * {@link #onTaskChanged}; the rows of those tasks are skipped.
+     */
+    private void loadNextWindow() {
+        final LocalDate from;
+        final LocalDate to;
+        synchronized (this) {
+            final LocalDate today = LocalDate.now(zone);
+            if (loading || !horizon.isBefore(today.plusDays(lookAheadDays))) {
+                return;
+            }
+            from = horizon.isBefore(today) ? today : horizon;
+            to = from.plusDays(windowDays);
+            horizon = to;
+            loading = true;
+        }
+        final long start = System.nanoTime();
+        int loaded = 0;
+        try {
+            LocalDate afterDay = from;
+            long afterId = Long.MIN_VALUE;
+            List<Reminder> rows;
+            do {
+                rows = jdbcTemplate.query(WINDOW_QUERY,
+                        (rs, rowNum) -> new Reminder(rs.getLong(1), rs.getString(2), rs.getDate(3).toLocalDate()),
+                        Date.valueOf(from), Date.valueOf(to), Date.valueOf(afterDay), Date.valueOf(afterDay),
+                        afterId, batchSize);
+                final long now = System.currentTimeMillis();
+                synchronized (this) {
+                    for (final Reminder reminder : rows) {
+                        final long deadline = deadline(reminder.dueDate());
+                        if (deadline > now && !writtenWhileLoading.contains(reminder.taskId())) {
+                            cancel(reminder.taskId());
+                            schedule(reminder, deadline);
+                            loaded++;
+                        }
+                    }
+                }
+                if (!rows.isEmpty()) {
+                    afterDay = rows.get(rows.size() - 1).dueDate();
+                    afterId = rows.get(rows.size() - 1).taskId();
+                }
+            } while (rows.size() == batchSize);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                // Retried on a later tick; rescheduling the rows already read is harmless
+                horizon = from;
+            }
+            log.error("Could not load the reminders due from {} to {}", from, to.minusDays(1), e);
+            return;
+        } finally {
+            synchronized (this) {
+                loading = false;
+                writtenWhileLoading.clear();
+            }
+        }
+        log.info("Loaded {} reminders due from {} to {} in {} ms", loaded, from, to.minusDays(1),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private long deadline(final LocalDate dueDate) {
+        return dueDate.atTime(dueTime).atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private void schedule(final Reminder reminder, final long deadline) {
+        timersByTask.put(reminder.taskId(), wheel.schedule(deadline, reminder));
+    }
+
+    private void cancel(final long taskId) {
+        final TimingWheel.Timer<Reminder> timer = timersByTask.remove(taskId);
+        if (timer != null) {
+            wheel.cancel(timer);
+        }
+    }
+
+    private record Reminder(long taskId, String tittle, LocalDate dueDate) {
+    }
+}
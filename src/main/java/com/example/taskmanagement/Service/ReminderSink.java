@@ -0,0 +1,15 @@
+package com.example.taskmanagement.Service;
+
+import com.example.taskmanagement.DTO.DueReminderDTO;
+
+/**
+ * Destination of the reminders fired by {@link ReminderScheduler}, chosen
+ * with the {@code reminders.sink} property.
+ *
+ * <p>Called on the scheduler thread, so implementations must not block:
+ * a slow sink delays every reminder due after it.</p>
+ */
+public interface ReminderSink {
+
+    void publish(DueReminderDTO reminder);
+}
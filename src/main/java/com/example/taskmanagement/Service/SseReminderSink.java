@@ -0,0 +1,25 @@
+package com.example.taskmanagement.Service;
+
+import com.example.taskmanagement.DTO.DueReminderDTO;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Sends the reminders as {@code due} events of the {@code /events} change
+ * feed.
+ */
+@AllArgsConstructor
+@Component
+@ConditionalOnProperty(name = "reminders.sink", havingValue = "sse")
+public class SseReminderSink implements ReminderSink {
+
+    private final ChangeFeed changeFeed;
+
+    @Override
+    public void publish(final DueReminderDTO reminder) {
+        changeFeed.publishReminder(reminder);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.taskmanagement.Service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically recomputes the per-tag task counters from task_tag and repairs
+ * any that drifted, for example after manual edits to the database.
+ */
+@Slf4j
+@AllArgsConstructor
+@Service
+public class TagCountReconciler {
+
+    private static final String DRIFT_QUERY =
+            "SELECT t.id, t.task_count, COUNT(tt.task_id) AS actual_count FROM tags t "
+                    + "LEFT JOIN task_tag tt ON tt.tag_id = t.id "
+                    + "GROUP BY t.id, t.task_count HAVING t.task_count <> COUNT(tt.task_id)";
+
+    private static final String REPAIR_STATEMENT =
+            "UPDATE tags SET task_count = (SELECT COUNT(*) FROM task_tag WHERE tag_id = ?) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Environment environment;
+
+    /**
+     * Runs a reconciliation once the application has started, so counters added to an
+     * existing database are correct before the first scheduled run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (environment.getProperty("tags.count-reconciliation.on-startup", Boolean.class, true)) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Finds every tag whose stored counter differs from the number of rows in task_tag,
+     * logs the drift and recomputes the counter for those tags.
+     *
+     * @return The number of tags whose counter had drifted.
+     */
+    @Scheduled(cron = "${tags.count-reconciliation.cron:0 0 3 * * *}")
+    public int reconcile() {
+        final List<Drift> drifts = jdbcTemplate.query(DRIFT_QUERY, (rs, rowNum) ->
+                new Drift(rs.getLong("id"), rs.getLong("task_count"), rs.getLong("actual_count")));
+
+        if (drifts.isEmpty()) {
+            log.info("Tag task counters are consistent");
+            return 0;
+        }
+
+        for (final Drift drift : drifts) {
+            log.warn("Tag {} task counter drifted: stored {}, actual {}", drift.tagId(), drift.stored(), drift.actual());
+        }
+        jdbcTemplate.batchUpdate(REPAIR_STATEMENT, drifts, drifts.size(), (ps, drift) -> {
+            ps.setLong(1, drift.tagId());
+            ps.setLong(2, drift.tagId());
+        });
+        log.warn("Repaired task counters of {} tags", drifts.size());
+        return drifts.size();
+    }
+
+    private record Drift(long tagId, long stored, long actual) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.taskmanagement.Service;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.example.taskmanagement.event.TagChangedEvent;
+import com.example.taskmanagement.event.TagMergedEvent;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Cache of the serialized GET /tags responses, keyed by the request
+ * parameters.
+ *
+ * <p>Entries are invalidated by the committed change events: any tag change
+ * drops every entry, and a task write that changes tag usage drops the
+ * listings with counts but keeps the lists filtered by creation date, which do
+ * not include counts. Entries also expire {@code tags.response-cache.ttl}
+ * after being written, which bounds staleness after writes that bypass the
+ * application. A response computed while an invalidation happened is never
+ * kept. Hit and miss counts are published as the {@code tagResponseCache}
+ * cache metrics.</p>
+ */
+@Component
+public class TagListResponseCache {
+
+    private final Cache<Key, CachedResponse> cache;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong tagGeneration = new AtomicLong();
+    private final AtomicLong countGeneration = new AtomicLong();
+
+    public TagListResponseCache(ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${tags.response-cache.max-size:1000}") long maxSize,
+                                @Value("${tags.response-cache.ttl:30s}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tagResponseCache");
+    }
+
+    /**
+     * Returns the cached response for the given parameters, or computes,
+     * serializes and caches it. Only successful responses are cached.
+     *
+     * @param dateCreated The creation date filter, may be null.
+     * @param page The requested page.
+     * @param size The requested page size, may be null.
+     * @param sort The requested sort order, may be null.
+     * @param loader Computes the response on a miss.
+     * @return The response with a JSON body.
+     */
+    public ResponseEntity<byte[]> get(final LocalDate dateCreated, final int page, final Integer size,
+                                      final String sort, final Supplier<ResponseEntity<?>> loader) {
+        final Key key = new Key(dateCreated, page, size, sort);
+        final CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.toResponse();
+        }
+
+        final long tags = tagGeneration.get();
+        final long counts = countGeneration.get();
+        final ResponseEntity<?> response = loader.get();
+        final CachedResponse computed = new CachedResponse(response.getStatusCode(), serialize(response.getBody()));
+        if (computed.status().is2xxSuccessful() && !changedSince(key, tags, counts)) {
+            cache.put(key, computed);
+            // An invalidation between the check and the put may have missed this entry
+            if (changedSince(key, tags, counts)) {
+                cache.invalidate(key);
+            }
+        }
+        return computed.toResponse();
+    }
+
+    /**
+     * Drops every entry after a committed tag change.
+     */
+    @TransactionalEventListener
+    public void onTagChanged(final TagChangedEvent event) {
+        tagGeneration.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Drops every entry after a committed tag merge.
+     */
+    @TransactionalEventListener
+    public void onTagMerged(final TagMergedEvent event) {
+        tagGeneration.incrementAndGet();
+        countGeneration.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Drops the listings with counts after a committed task write that changed
+     * the tags of a task.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(final TaskChangedEvent event) {
+        if (event.tagIds().equals(event.previousTagIds())) {
+            return;
+        }
+        countGeneration.incrementAndGet();
+        cache.asMap().keySet().removeIf(Key::includesCounts);
+    }
+
+    private boolean changedSince(final Key key, final long tags, final long counts) {
+        return tagGeneration.get() != tags || (key.includesCounts() && countGeneration.get() != counts);
+    }
+
+    private byte[] serialize(final Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Key(LocalDate dateCreated, int page, Integer size, String sort) {
+        /** The unfiltered listing carries task counts, the date filter does not. */
+        private boolean includesCounts() {
+            return dateCreated == null;
+        }
+    }
+
+    private record CachedResponse(HttpStatusCode status, byte[] body) {
+        private ResponseEntity<byte[]> toResponse() {
+            return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.taskmanagement.Service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.example.taskmanagement.DTO.TagDTO;
+import com.example.taskmanagement.Repository.TagRepository;
+import com.example.taskmanagement.Repository.TagRepositoryCustom;
+import com.example.taskmanagement.event.ChangeType;
+import com.example.taskmanagement.event.TagChangedEvent;
+import com.example.taskmanagement.event.TagMergedEvent;
+import com.example.taskmanagement.exception.types.ResourceNotFoundException;
+import com.example.taskmanagement.exception.types.ValidationException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes, renames and merges tags with set-based statements on
+ * {@code task_tag} and {@code tags} instead of loading the tagged tasks.
+ *
+ * <p>Links are drained in chunks of {@code tags.maintenance.chunk-size} task
+ * ids, each in its own transaction, so locks are held briefly and the cost
+ * follows the number of rows touched. The chunk that finds fewer links than
+ * the chunk size also removes the tag row and publishes the event, so links
+ * added by concurrent task writes in the meantime are drained as well. An
+ * interrupted run leaves a consistent state with fewer links and is finished
+ * by repeating the request.</p>
+ *
+ * <p>Task versions are incremented for every task whose links change, and the
+ * task counters are adjusted in the same transaction as the links.</p>
+ */
+@Slf4j
+@Service
+public class TagMaintenanceService {
+
+    private final TagRepository tagRepository;
+    private final TagNameCache tagNameCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public TagMaintenanceService(TagRepository tagRepository, TagNameCache tagNameCache,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${tags.maintenance.chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("tags.maintenance.chunk-size must be positive");
+        }
+        this.tagRepository = tagRepository;
+        this.tagNameCache = tagNameCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Unlinks a tag from all of its tasks and deletes it. The tasks are kept.
+     *
+     * @param tagId The ID of the tag.
+     * @return The number of tasks that lost the tag.
+     * @throws ResourceNotFoundException If the tag does not exist.
+     */
+    public long deleteTag(final long tagId) {
+        final String name = tagStatistics(tagId).getName();
+        long unlinked = 0;
+        while (true) {
+            final Chunk chunk = transactionTemplate.execute(status -> {
+                final List<Long> taskIds = tagRepository.findTaskIdChunk(tagId, chunkSize);
+                final int removed = tagRepository.unlinkTasks(tagId, taskIds);
+                tagRepository.adjustTaskCounts(Map.of(tagId, (long) -removed));
+                final boolean last = taskIds.size() < chunkSize;
+                if (last && tagRepository.deleteTagRow(tagId)) {
+                    tagNameCache.evict(name);
+                    eventPublisher.publishEvent(new TagChangedEvent(ChangeType.DELETED, tagId, name));
+                }
+                return new Chunk(removed, last);
+            });
+            unlinked += chunk.rows();
+            if (chunk.last()) {
+                break;
+            }
+        }
+        log.info("Deleted tag {} '{}' from {} tasks", tagId, name, unlinked);
+        return unlinked;
+    }
+
+    /**
+     * Renames a tag with a single update. Tasks reference the tag by id, so no
+     * link changes.
+     *
+     * @param tagId The ID of the tag.
+     * @param name  The new name.
+     * @return The renamed tag with its task count.
+     * @throws ValidationException       If the name is blank.
+     * @throws ResourceNotFoundException If the tag does not exist.
+     */
+    public TagDTO renameTag(final long tagId, final String name) {
+        if (name == null || name.isBlank()) {
+            throw new ValidationException("Tag name must not be blank");
+        }
+        final String newName = name.trim();
+        transactionTemplate.executeWithoutResult(status -> {
+            final String oldName = tagStatistics(tagId).getName();
+            if (oldName.equals(newName)) {
+                return;
+            }
+            tagRepository.renameTag(tagId, newName);
+            tagNameCache.evict(oldName);
+            tagNameCache.evict(newName);
+            eventPublisher.publishEvent(new TagChangedEvent(ChangeType.UPDATED, tagId, newName));
+        });
+        return tagStatistics(tagId);
+    }
+
+    /**
+     * Moves every task of the source tag to the target tag and deletes the
+     * source tag. Tasks that carry both tags end up with a single link to the
+     * target tag.
+     *
+     * @param sourceTagId The ID of the tag to merge away.
+     * @param targetTagId The ID of the tag that receives the tasks.
+     * @return The target tag with its task count after the merge.
+     * @throws ValidationException       If both ids are the same.
+     * @throws ResourceNotFoundException If either tag does not exist.
+     */
+    public TagDTO mergeTags(final long sourceTagId, final long targetTagId) {
+        if (sourceTagId == targetTagId) {
+            throw new ValidationException("A tag can not be merged into itself");
+        }
+        final String sourceName = tagStatistics(sourceTagId).getName();
+        tagStatistics(targetTagId);
+        long moved = 0;
+        while (true) {
+            final Chunk chunk = transactionTemplate.execute(status -> {
+                final List<Long> taskIds = tagRepository.findTaskIdChunk(sourceTagId, chunkSize);
+                // Counted from the statements: the chunk was read without a lock
+                final TagRepositoryCustom.Relinked relinked =
+                        tagRepository.relinkTasks(sourceTagId, targetTagId, taskIds);
+                tagRepository.adjustTaskCounts(Map.of(sourceTagId, (long) -relinked.removed(),
+                        targetTagId, (long) relinked.added()));
+                final boolean last = taskIds.size() < chunkSize;
+                if (last) {
+                    final TagDTO target = tagStatistics(targetTagId);
+                    if (tagRepository.deleteTagRow(sourceTagId)) {
+                        tagNameCache.evict(sourceName);
+                        eventPublisher.publishEvent(new TagMergedEvent(sourceTagId, sourceName, targetTagId,
+                                target.getName(), target.getTagTaskCount()));
+                    }
+                }
+                return new Chunk(relinked.removed(), last);
+            });
+            moved += chunk.rows();
+            if (chunk.last()) {
+                break;
+            }
+        }
+        log.info("Merged tag {} '{}' into tag {}, {} tasks moved", sourceTagId, sourceName, targetTagId, moved);
+        return tagStatistics(targetTagId);
+    }
+
+    private TagDTO tagStatistics(final long tagId) {
+        return tagRepository.findTagStatisticsById(tagId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tag not found with ID: " + tagId));
+    }
+
+    /**
+     * Outcome of one chunk: the links it touched and whether it was the last.
+     */
+    private record Chunk(long rows, boolean last) {
+    }
+}
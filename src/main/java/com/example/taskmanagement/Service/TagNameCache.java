@@ -0,0 +1,119 @@
+package com.example.taskmanagement.Service;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+import com.example.taskmanagement.Model.Tag;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded cache of resolved tags keyed by name, used by
+ * {@link TaskService#processedTag(java.util.Set)} to skip the database for
+ * tags it has already seen.
+ *
+ * <p>Entries are detached copies holding only the id, name, creation date and
+ * version, which is all a task needs to reference a tag. Keys are lower-cased because
+ * tag names are unique case-insensitively under the default MySQL collation.
+ * Hit and miss counts are published as the {@code tagNameCache} cache metrics.</p>
+ */
+@Component
+public class TagNameCache {
+
+    private final Cache<String, Tag> cache;
+
+    public TagNameCache(MeterRegistry meterRegistry,
+                        @Value("${tags.name-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tagNameCache");
+    }
+
+    /**
+     * Normalizes a tag name into a cache key.
+     *
+     * @param name The tag name.
+     * @return The key under which the tag is cached.
+     */
+    public static String key(final String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Looks up several tags at once. Each key counts as a hit or a miss.
+     *
+     * @param keys Keys produced by {@link #key(String)}.
+     * @return The cached tags by key; missing keys are absent from the map.
+     */
+    public Map<String, Tag> getAllPresent(final Collection<String> keys) {
+        return cache.getAllPresent(keys);
+    }
+
+    /**
+     * Caches a detached copy of the given persisted tag. When called inside a
+     * transaction, the entry is only added once the transaction commits, so a
+     * tag inserted by a transaction that rolls back is never cached.
+     *
+     * @param tag A tag that has an id.
+     * @return The copy that is cached.
+     */
+    public Tag put(final Tag tag) {
+        final Tag copy = new Tag();
+        copy.setId(tag.getId());
+        copy.setName(tag.getName());
+        copy.setDateCreated(tag.getDateCreated());
+        copy.setVersion(tag.getVersion());
+        final String key = key(tag.getName());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(key, copy);
+                }
+            });
+        } else {
+            cache.put(key, copy);
+        }
+        return copy;
+    }
+
+    /**
+     * Removes a tag name from the cache now and, when called inside a transaction,
+     * once more after it completes so that a lookup racing with the transaction
+     * can not leave a stale entry behind.
+     *
+     * @param name The tag name to evict.
+     */
+    public void evict(final String name) {
+        final String key = key(name);
+        cache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the hit, miss and eviction statistics of the cache.
+     *
+     * @return A snapshot of the cache statistics.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -1,19 +1,24 @@
 package com.example.taskmanagement.Service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import com.example.taskmanagement.DTO.TagDTO;
+import com.example.taskmanagement.DTO.TagSuggestionDTO;
 import com.example.taskmanagement.DTO.TagWithTasksDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
 import com.example.taskmanagement.Model.Tag;
-import com.example.taskmanagement.Model.Task;
 import com.example.taskmanagement.Repository.TagRepository;
 import com.example.taskmanagement.Repository.TaskRepository;
+import com.example.taskmanagement.configuration.PaginationProperties;
 import com.example.taskmanagement.exception.types.ResourceNotFoundException;
+import com.example.taskmanagement.exception.types.ValidationException;
 import com.example.taskmanagement.response.ResponseHandler;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -32,6 +37,9 @@ public class TagService {
     private final TaskService taskService;
     private final TagRepository tagRepository;
     private final TaskRepository taskRepository;
+    private final PaginationProperties paginationProperties;
+    private final TagSuggestionIndex tagSuggestionIndex;
+    private final TagMaintenanceService tagMaintenanceService;
 
     /**
      * Creates a new Tag in the database.
@@ -52,6 +60,7 @@ public class TagService {
 
     /**
      * Retrieves a Tag along with its associated Tasks from the database.
+     * The tasks are loaded as read models with a single query.
      *
      * @param tagId The ID of the Tag to be retrieved.
      * @return A TagWithTasksDTO object containing the Tag and its associated Tasks.
@@ -63,55 +72,109 @@ public class TagService {
                 .orElseThrow(() -> new ResourceNotFoundException("Tag not found with ID: " + tagId));
 
         final List<Long> taskIds = getTaskIdsForTag(tagId);
-        final List<Task> tasks = taskRepository.findAllById(taskIds);
+        final List<TaskViewDTO> tasks = taskRepository.findViewsByIds(taskIds);
 
         return new TagWithTasksDTO(tag.getId(), tag.getName(), tasks);
     }
 
     /**
-     * Retrieves a list of all Tags along with their associated task counts from the database.
+     * Retrieves a page of Tags along with their associated task counts from the database.
+     * The counts are read from the maintained per-tag counter, so the cost is a single
+     * round trip regardless of the number of tags or tasks.
      *
+     * @param page The zero-based page number.
+     * @param size The requested page size, clamped to the configured maximum.
+     * @param sort The sort order: "id" (default), "name", or "count" (most used first).
      * @return A list of TagDTO objects containing the Tag ID, name, and task count.
+     * @throws ValidationException If the page number or sort order is invalid.
      */
     @Transactional
-    public List<TagDTO> getTagsWithTaskCounts() {
-        final List<Tag> tags = getAllTags();
-        final List<TagDTO> tagWithTaskCounts = new ArrayList<>();
-
-        for (final Tag tag : tags) {
-            final int taskCount = getTaskCountForTag(tag.getId());
-            tagWithTaskCounts.add(new TagDTO(tag.getId(), tag.getName(), (long) taskCount, tag.getDateCreated()));
+    public List<TagDTO> getTagsWithTaskCounts(final int page, final Integer size, final String sort) {
+        if (page < 0) {
+            throw new ValidationException("Page number must not be negative");
         }
+        final Pageable pageable = PageRequest.of(page, paginationProperties.resolve(size), tagStatisticsSort(sort));
+        return tagRepository.findTagStatistics(pageable);
+    }
 
-        return tagWithTaskCounts;
+    /**
+     * Maps the sort parameter of the tag listing to the order applied by the statistics query.
+     */
+    private Sort tagStatisticsSort(final String sort) {
+        if (sort == null || sort.equals("id")) {
+            return Sort.by("id");
+        }
+        switch (sort) {
+            case "name":
+                return Sort.by("name").and(Sort.by("id"));
+            case "count":
+                return Sort.by(Sort.Direction.DESC, "taskCount").and(Sort.by("id"));
+            default:
+                throw new ValidationException("Unsupported sort '" + sort + "', expected one of id, name, count");
+        }
     }
 
     /**
      * Deletes a Tag from the database by its ID without affecting associated Tasks.
+     * The links are removed in chunks by {@link TagMaintenanceService}, so no task
+     * is loaded and the cost follows the number of links.
      *
      * @param tagId The ID of the Tag to be deleted.
      * @return A ResponseEntity containing the HTTP status code and a message indicating the success or failure of the operation.
+     * @throws ResourceNotFoundException If the Tag with the given ID is not found.
      */
-    @Transactional
     public ResponseEntity<?> deleteTag(final Long tagId) {
-        final Tag tag = tagRepository.findById(tagId)
-                .orElseThrow(() -> new RuntimeException("Tag not found with ID: " + tagId));
-
-        // Disassociate tasks from the tag
-        final List<Task> tasks = taskRepository.findAllById(getTaskIdsForTag(tagId));
-        for (final Task task : tasks) {
-            task.getTags().remove(tag);
-            taskRepository.save(task);
-        }
-
-        tagRepository.delete(tag);
-
+        tagMaintenanceService.deleteTag(tagId);
         return ResponseHandler.ResponseBuilder(
                 "Tag deleted successfully without affecting associated tasks",
                 HttpStatus.OK
         );
     }
 
+    /**
+     * Renames a Tag. Every task carrying the Tag shows the new name.
+     *
+     * @param tagId The ID of the Tag to be renamed.
+     * @param tag A Tag holding the new name.
+     * @return A ResponseEntity containing the renamed Tag with its task count.
+     * @throws ValidationException If the name is blank.
+     * @throws ResourceNotFoundException If the Tag with the given ID is not found.
+     */
+    public ResponseEntity<?> renameTag(final Long tagId, final Tag tag) {
+        final TagDTO renamed = tagMaintenanceService.renameTag(tagId, tag == null ? null : tag.getName());
+        return ResponseHandler.ResponseBuilder("Tag renamed successfully", HttpStatus.OK, renamed);
+    }
+
+    /**
+     * Merges one Tag into another: the tasks of the source Tag are moved to the
+     * target Tag and the source Tag is deleted.
+     *
+     * @param sourceTagId The ID of the Tag to merge away.
+     * @param targetTagId The ID of the Tag that receives the tasks.
+     * @return A ResponseEntity containing the target Tag with its task count.
+     * @throws ValidationException If both IDs are the same.
+     * @throws ResourceNotFoundException If either Tag is not found.
+     */
+    public ResponseEntity<?> mergeTags(final Long sourceTagId, final Long targetTagId) {
+        final TagDTO target = tagMaintenanceService.mergeTags(sourceTagId, targetTagId);
+        return ResponseHandler.ResponseBuilder("Tags merged successfully", HttpStatus.OK, target);
+    }
+
+    /**
+     * Suggests tags whose name starts with the given prefix, from the in-memory
+     * {@link TagSuggestionIndex}.
+     *
+     * @param prefix The typed prefix, matched case-insensitively.
+     * @param limit The maximum number of suggestions, the configured top-k when null.
+     * @return The suggestions, most used first.
+     * @throws ValidationException If the limit is not positive.
+     */
+    public List<TagSuggestionDTO> suggestTags(final String prefix, final Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new ValidationException("Limit must be positive");
+        }
+        return tagSuggestionIndex.suggest(prefix, limit == null ? tagSuggestionIndex.topK() : limit);
+    }
 
     /**
      * Retrieves all Tags from the database.
@@ -142,10 +205,21 @@ public class TagService {
         return tagRepository.findTaskIdsByTagId(tagId);
     }
 
-    public ResponseEntity<?> getAllTagsOrByFilterDateCreated(final LocalDate dateCreated) {
+    /**
+     * Retrieves the tags created on the given date, or a page of all tags with their task counts
+     * when no date is given.
+     *
+     * @param dateCreated The creation date to filter by, may be null.
+     * @param page The zero-based page number of the unfiltered listing.
+     * @param size The page size of the unfiltered listing.
+     * @param sort The sort order of the unfiltered listing.
+     * @return A ResponseEntity containing the matching tags.
+     */
+    public ResponseEntity<?> getAllTagsOrByFilterDateCreated(final LocalDate dateCreated, final int page,
+                                                             final Integer size, final String sort) {
         if (dateCreated == null) {
             return ResponseHandler.ResponseBuilder("All tags with task count",
-                    HttpStatus.OK,getTagsWithTaskCounts());
+                    HttpStatus.OK, getTagsWithTaskCounts(page, size, sort));
         }else {
            return ResponseHandler.ResponseBuilder("Filtered by date",HttpStatus.OK, tagRepository.findTagsByDateCreated(dateCreated));
         }
@@ -0,0 +1,274 @@
+package com.example.taskmanagement.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.taskmanagement.DTO.TagSuggestionDTO;
+import com.example.taskmanagement.event.ChangeType;
+import com.example.taskmanagement.event.TagChangedEvent;
+import com.example.taskmanagement.event.TagMergedEvent;
+import com.example.taskmanagement.event.TaskChangedEvent;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Case-insensitive prefix trie over tag names for autocomplete.
+ *
+ * <p>Every node keeps the top-k tags of its subtree, ordered by task count, so
+ * a lookup is a walk down the prefix followed by a copy of that node's list.
+ * Writers run one at a time and publish new child and top-k arrays through
+ * volatile fields, so readers take no lock and allocate nothing but the result
+ * list. The trie is loaded at startup and then follows the committed
+ * {@link TagChangedEvent}s and the tag changes of {@link TaskChangedEvent}s.</p>
+ */
+@Slf4j
+@Component
+public class TagSuggestionIndex {
+
+    private static final TagSuggestionDTO[] NO_SUGGESTIONS = new TagSuggestionDTO[0];
+
+    /** Most used first, then by name and id. */
+    private static final Comparator<TagSuggestionDTO> RANKING =
+            Comparator.comparingLong(TagSuggestionDTO::taskCount).reversed()
+                    .thenComparing(TagSuggestionDTO::name, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(TagSuggestionDTO::id);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<Long, TagSuggestionDTO> tagsById = new HashMap<>();
+
+    /**
+     * @param entityManagerFactory Injected only so that the schema is created
+     *                             before the trie is loaded.
+     */
+    public TagSuggestionIndex(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                              @Value("${tags.suggest.top-k:10}") int topK) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.topK = topK;
+    }
+
+    /**
+     * Loads every tag with its task count.
+     */
+    @PostConstruct
+    synchronized void load() {
+        final long start = System.nanoTime();
+        jdbcTemplate.query("SELECT id, name, task_count FROM tags", rs -> {
+            put(new TagSuggestionDTO(rs.getLong(1), rs.getString(2), rs.getLong(3)));
+        });
+        log.info("Loaded tag suggestions: {} tags in {} ms", tagsById.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Returns the most used tags whose name starts with the prefix, ignoring case.
+     *
+     * @param prefix The typed prefix; empty returns the most used tags overall.
+     * @param limit  The maximum number of suggestions, at most the configured top-k.
+     * @return The suggestions, most used first.
+     */
+    public List<TagSuggestionDTO> suggest(final String prefix, final int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(Character.toLowerCase(prefix.charAt(i)));
+        }
+        final TagSuggestionDTO[] top = node == null ? NO_SUGGESTIONS : node.top;
+        final int size = Math.min(Math.min(limit, topK), top.length);
+        final List<TagSuggestionDTO> suggestions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            suggestions.add(top[i]);
+        }
+        return suggestions;
+    }
+
+    /**
+     * The configured number of suggestions kept per prefix.
+     */
+    public int topK() {
+        return topK;
+    }
+
+    /**
+     * Adds a committed new tag, or removes a committed tag delete.
+     */
+    @TransactionalEventListener
+    public synchronized void onTagChanged(final TagChangedEvent event) {
+        final TagSuggestionDTO current = tagsById.get(event.tagId());
+        if (event.type() == ChangeType.DELETED) {
+            if (current != null) {
+                remove(current);
+            }
+            return;
+        }
+        if (current != null && current.name().equals(event.name())) {
+            return;
+        }
+        if (current != null) {
+            remove(current);
+        }
+        put(new TagSuggestionDTO(event.tagId(), event.name(), current == null ? 0 : current.taskCount()));
+    }
+
+    /**
+     * Removes the source tag of a committed merge and stores the new count of
+     * the target tag.
+     */
+    @TransactionalEventListener
+    public synchronized void onTagMerged(final TagMergedEvent event) {
+        final TagSuggestionDTO source = tagsById.get(event.sourceTagId());
+        if (source != null) {
+            remove(source);
+        }
+        final TagSuggestionDTO target = tagsById.get(event.targetTagId());
+        if (target != null) {
+            put(new TagSuggestionDTO(target.id(), target.name(), event.targetTaskCount()));
+        }
+    }
+
+    /**
+     * Applies the task count changes of a committed task write.
+     */
+    @TransactionalEventListener
+    public synchronized void onTaskChanged(final TaskChangedEvent event) {
+        for (final Long tagId : event.previousTagIds()) {
+            if (!event.tagIds().contains(tagId)) {
+                adjustCount(tagId, -1);
+            }
+        }
+        for (final Long tagId : event.tagIds()) {
+            if (!event.previousTagIds().contains(tagId)) {
+                adjustCount(tagId, 1);
+            }
+        }
+    }
+
+    private void adjustCount(final Long tagId, final long delta) {
+        final TagSuggestionDTO current = tagsById.get(tagId);
+        if (current != null) {
+            put(new TagSuggestionDTO(current.id(), current.name(), Math.max(0, current.taskCount() + delta)));
+        }
+    }
+
+    /**
+     * Stores or replaces a tag and refreshes the top-k lists on its path.
+     */
+    private void put(final TagSuggestionDTO tag) {
+        final TagSuggestionDTO previous = tagsById.put(tag.id(), tag);
+        final Node[] path = path(key(tag.name()), true);
+        final Node leaf = path[path.length - 1];
+        if (previous != null) {
+            leaf.terminals.removeIf(terminal -> terminal.id().equals(tag.id()));
+        }
+        leaf.terminals.add(tag);
+        refresh(path);
+    }
+
+    private void remove(final TagSuggestionDTO tag) {
+        tagsById.remove(tag.id());
+        final Node[] path = path(key(tag.name()), false);
+        if (path == null) {
+            return;
+        }
+        path[path.length - 1].terminals.removeIf(terminal -> terminal.id().equals(tag.id()));
+        refresh(path);
+    }
+
+    /**
+     * Returns the nodes from the root to the node of {@code key}, creating
+     * missing nodes when asked to, or null when the key is absent.
+     */
+    private Node[] path(final String key, final boolean create) {
+        final Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node child = path[i].children.get(key.charAt(i));
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node();
+                path[i].children = path[i].children.with(key.charAt(i), child);
+            }
+            path[i + 1] = child;
+        }
+        return path;
+    }
+
+    /**
+     * Recomputes the top-k lists bottom-up from each node's own tags and the
+     * lists of its children.
+     */
+    private void refresh(final Node[] path) {
+        for (int i = path.length - 1; i >= 0; i--) {
+            final Node node = path[i];
+            final List<TagSuggestionDTO> candidates = new ArrayList<>(node.terminals);
+            for (final Node child : node.children.nodes) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(RANKING);
+            node.top = candidates.subList(0, Math.min(topK, candidates.size())).toArray(NO_SUGGESTIONS);
+        }
+    }
+
+    private static String key(final String name) {
+        final StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            key.append(Character.toLowerCase(name.charAt(i)));
+        }
+        return key.toString();
+    }
+
+    /**
+     * A trie node. Only writers touch {@code terminals}; {@code children} and
+     * {@code top} are replaced, never modified, once published.
+     */
+    private static final class Node {
+        private final List<TagSuggestionDTO> terminals = new ArrayList<>(1);
+        private volatile Children children = Children.EMPTY;
+        private volatile TagSuggestionDTO[] top = NO_SUGGESTIONS;
+    }
+
+    /**
+     * Immutable child table, sorted by character for binary search.
+     */
+    private static final class Children {
+        private static final Children EMPTY = new Children(new char[0], new Node[0]);
+
+        private final char[] keys;
+        private final Node[] nodes;
+
+        private Children(final char[] keys, final Node[] nodes) {
+            this.keys = keys;
+            this.nodes = nodes;
+        }
+
+        private Node get(final char key) {
+            final int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : nodes[index];
+        }
+
+        private Children with(final char key, final Node node) {
+            final int insertAt = -(Arrays.binarySearch(keys, key) + 1);
+            final char[] newKeys = new char[keys.length + 1];
+            final Node[] newNodes = new Node[nodes.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(nodes, 0, newNodes, 0, insertAt);
+            newKeys[insertAt] = key;
+            newNodes[insertAt] = node;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(nodes, insertAt, newNodes, insertAt + 1, nodes.length - insertAt);
+            return new Children(newKeys, newNodes);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.taskmanagement.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.example.taskmanagement.DTO.TaskExportDTO;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Streams tasks out as newline-delimited JSON.
+ *
+ * <p>Tasks are read through a server-side cursor in id order. They are handled in
+ * chunks: the tag names of a chunk are fetched with one query, the chunk is written,
+ * and the persistence context is cleared, so heap usage does not grow with the
+ * number of tasks.</p>
+ */
+@Service
+public class TaskExportService {
+
+  private static final int CHUNK_SIZE = 500;
+  private static final byte[] LINE_SEPARATOR = { '\n' };
+
+  private final TaskRepository taskRepository;
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+
+  public TaskExportService(TaskRepository taskRepository, EntityManager entityManager, ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager) {
+    this.taskRepository = taskRepository;
+    this.entityManager = entityManager;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /**
+   * Writes every task, optionally filtered by completion status, to the given
+   * stream as one JSON object per line.
+   *
+   * @param isCompleted An optional completion status to filter by.
+   * @param out         The stream to write to. It is flushed but not closed.
+   * @throws IOException If writing to the stream fails.
+   */
+  public void exportTasks(Optional<Boolean> isCompleted, OutputStream out) throws IOException {
+    try {
+      readOnlyTransaction.executeWithoutResult(status -> {
+        try (Stream<Task> tasks = isCompleted.isPresent()
+            ? taskRepository.streamAllByCompleted(isCompleted.get())
+            : taskRepository.streamAll()) {
+          Iterator<Task> iterator = tasks.iterator();
+          List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+          while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == CHUNK_SIZE) {
+              writeChunk(chunk, out);
+            }
+          }
+          writeChunk(chunk, out);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    out.flush();
+  }
+
+  /**
+   * Writes one chunk of tasks, then forgets it.
+   */
+  private void writeChunk(List<Task> chunk, OutputStream out) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    List<Long> ids = new ArrayList<>(chunk.size());
+    chunk.forEach(task -> ids.add(task.getId()));
+    Map<Long, List<String>> tagNames = new HashMap<>();
+    for (Object[] row : taskRepository.findTagNamesByTaskIds(ids)) {
+      tagNames.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+    }
+
+    try {
+      for (Task task : chunk) {
+        TaskExportDTO line = new TaskExportDTO(task.getId(), task.getTittle(), task.isCompleted(),
+            task.getDueDate(), tagNames.getOrDefault(task.getId(), Collections.emptyList()));
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write(LINE_SEPARATOR);
+      }
+      out.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    chunk.clear();
+    entityManager.clear();
+  }
+}
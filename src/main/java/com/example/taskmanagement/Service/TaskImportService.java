@@ -0,0 +1,336 @@
+package com.example.taskmanagement.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.TaskExportDTO;
+import com.example.taskmanagement.DTO.TaskImportResultDTO;
+import com.example.taskmanagement.DTO.TaskImportResultDTO.RejectedRow;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.exception.types.ValidationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports tasks from an NDJSON or CSV body without holding the body in memory.
+ *
+ * <p>The body is parsed line by line. Valid rows are collected into fixed-size
+ * batches, and each batch is written in its own transaction with JDBC batching.
+ * Tag names are resolved through a name to tag map that lives for the whole
+ * import, so each distinct name costs at most one lookup. Rows that can not be
+ * parsed or validated are rejected with a reason and do not stop the import.</p>
+ *
+ * <p>NDJSON lines use the same shape as the export. CSV bodies need a header row
+ * with the columns {@code tittle}, {@code completed}, {@code dueDate} and
+ * {@code tags}, where tag names are separated by {@code |}.</p>
+ */
+@Slf4j
+@Service
+public class TaskImportService {
+
+  /** Content type accepted for CSV bodies. */
+  public static final String TEXT_CSV_VALUE = "text/csv";
+
+  private static final int BATCH_SIZE = 1000;
+  private static final int MAX_LISTED_REJECTIONS = 1000;
+
+  private final TaskService taskService;
+  private final ObjectMapper objectMapper;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+
+  public TaskImportService(TaskService taskService, ObjectMapper objectMapper, EntityManager entityManager,
+      PlatformTransactionManager transactionManager) {
+    this.taskService = taskService;
+    this.objectMapper = objectMapper;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Imports every row of the given body.
+   *
+   * @param body        The uploaded NDJSON or CSV body.
+   * @param contentType The content type of the body.
+   * @return The number of imported and rejected rows, the first rejections and
+   *         the throughput.
+   * @throws ValidationException If the content type is not supported or the CSV
+   *                             header is invalid.
+   * @throws IOException         If reading the body fails.
+   */
+  public TaskImportResultDTO importTasks(InputStream body, MediaType contentType) throws IOException {
+    boolean csv;
+    if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+      csv = false;
+    } else if (MediaType.parseMediaType(TEXT_CSV_VALUE).isCompatibleWith(contentType)) {
+      csv = true;
+    } else {
+      throw new ValidationException("Unsupported content type " + contentType + ", expected "
+          + MediaType.APPLICATION_NDJSON_VALUE + " or " + TEXT_CSV_VALUE);
+    }
+
+    ImportRun run = new ImportRun();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+      Map<String, Integer> csvColumns = csv ? readCsvHeader(reader, run) : null;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        run.line++;
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          TaskExportDTO row = csv ? parseCsvRow(line, csvColumns) : objectMapper.readValue(line, TaskExportDTO.class);
+          validate(row);
+          run.pending.add(new PendingRow(run.line, row));
+        } catch (JsonProcessingException e) {
+          run.reject(run.line, "Malformed JSON: " + e.getOriginalMessage());
+        } catch (ValidationException e) {
+          run.reject(run.line, e.getMessage());
+        }
+        if (run.pending.size() == BATCH_SIZE) {
+          writeBatch(run);
+        }
+      }
+      writeBatch(run);
+    }
+
+    long elapsedMillis = Math.max(1, (System.nanoTime() - run.startNanos) / 1_000_000);
+    double rowsPerSecond = run.imported * 1000.0 / elapsedMillis;
+    log.info("Task import finished: {} imported, {} rejected in {} ms ({} rows/s)",
+        run.imported, run.rejected, elapsedMillis, Math.round(rowsPerSecond));
+    return new TaskImportResultDTO(run.imported, run.rejected, run.rejections, elapsedMillis, rowsPerSecond);
+  }
+
+  /**
+   * Writes the pending rows in one transaction and clears the persistence
+   * context. If the batch fails, all of its rows are rejected.
+   */
+  private void writeBatch(ImportRun run) {
+    if (run.pending.isEmpty()) {
+      return;
+    }
+    try {
+      Map<String, Tag> newTags = new HashMap<>();
+      transactionTemplate.executeWithoutResult(status -> {
+        newTags.putAll(resolveNewTags(run));
+        List<Task> tasks = new ArrayList<>(run.pending.size());
+        for (PendingRow pending : run.pending) {
+          tasks.add(toTask(pending.row(), run.tagsByKey, newTags));
+        }
+        taskService.createTasksWithResolvedTags(tasks);
+        entityManager.flush();
+        entityManager.clear();
+      });
+      // Only remember tags once their insert is committed
+      run.tagsByKey.putAll(newTags);
+      run.imported += run.pending.size();
+    } catch (DataAccessException | PersistenceException e) {
+      log.error("Task import batch ending at line {} failed", run.line, e);
+      String reason = "Batch failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+      for (PendingRow pending : run.pending) {
+        run.reject(pending.line(), reason);
+      }
+    }
+    run.pending.clear();
+
+    long elapsedMillis = Math.max(1, (System.nanoTime() - run.startNanos) / 1_000_000);
+    log.info("Task import progress: line {}, {} imported, {} rejected, {} rows/s",
+        run.line, run.imported, run.rejected, Math.round(run.imported * 1000.0 / elapsedMillis));
+  }
+
+  /**
+   * Resolves the tag names of the pending rows that this import has not seen yet.
+   *
+   * @return The resolved tags by cache key.
+   */
+  private Map<String, Tag> resolveNewTags(ImportRun run) {
+    Map<String, Tag> unseen = new HashMap<>();
+    for (PendingRow pending : run.pending) {
+      for (String name : pending.row().getTags()) {
+        String key = TagNameCache.key(name);
+        if (!run.tagsByKey.containsKey(key)) {
+          unseen.computeIfAbsent(key, k -> {
+            Tag tag = new Tag();
+            tag.setName(name);
+            tag.setDateCreated(LocalDate.now());
+            return tag;
+          });
+        }
+      }
+    }
+    Map<String, Tag> resolved = new HashMap<>();
+    if (unseen.isEmpty()) {
+      return resolved;
+    }
+    for (Tag tag : taskService.processedTag(new HashSet<>(unseen.values()))) {
+      Tag reference = new Tag();
+      reference.setId(tag.getId());
+      reference.setName(tag.getName());
+      reference.setDateCreated(tag.getDateCreated());
+      reference.setVersion(tag.getVersion());
+      resolved.put(TagNameCache.key(tag.getName()), reference);
+    }
+    return resolved;
+  }
+
+  private static Task toTask(TaskExportDTO row, Map<String, Tag> knownTags, Map<String, Tag> newTags) {
+    Set<Tag> tags = new HashSet<>();
+    for (String name : row.getTags()) {
+      String key = TagNameCache.key(name);
+      Tag tag = knownTags.get(key);
+      tags.add(tag != null ? tag : newTags.get(key));
+    }
+    Task task = new Task();
+    task.setTittle(row.getTittle());
+    task.setCompleted(row.isCompleted());
+    task.setDueDate(row.getDueDate());
+    task.setTags(tags);
+    return task;
+  }
+
+  private static void validate(TaskExportDTO row) {
+    if (row == null) {
+      throw new ValidationException("Empty row");
+    }
+    if (row.getTags() == null || row.getTags().isEmpty()) {
+      throw new ValidationException("Please provide at least one tag");
+    }
+    for (String name : row.getTags()) {
+      if (name == null || name.isBlank()) {
+        throw new ValidationException("Tag name must not be empty");
+      }
+    }
+  }
+
+  /**
+   * Reads the CSV header and maps each known column name to its position.
+   */
+  private static Map<String, Integer> readCsvHeader(BufferedReader reader, ImportRun run) throws IOException {
+    String header = reader.readLine();
+    if (header == null) {
+      throw new ValidationException("CSV body is empty");
+    }
+    run.line++;
+    Map<String, Integer> columns = new HashMap<>();
+    List<String> names = parseCsvLine(header);
+    for (int i = 0; i < names.size(); i++) {
+      columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+    }
+    for (String required : List.of("tittle", "tags")) {
+      if (!columns.containsKey(required)) {
+        throw new ValidationException("CSV header must contain a '" + required + "' column");
+      }
+    }
+    return columns;
+  }
+
+  private static TaskExportDTO parseCsvRow(String line, Map<String, Integer> columns) {
+    List<String> fields = parseCsvLine(line);
+    TaskExportDTO row = new TaskExportDTO();
+    row.setTittle(field(fields, columns, "tittle"));
+    row.setCompleted(Boolean.parseBoolean(field(fields, columns, "completed")));
+
+    String dueDate = field(fields, columns, "duedate");
+    if (dueDate != null && !dueDate.isBlank()) {
+      try {
+        row.setDueDate(LocalDate.parse(dueDate.trim()));
+      } catch (DateTimeParseException e) {
+        throw new ValidationException("Invalid dueDate '" + dueDate + "', expected yyyy-MM-dd");
+      }
+    }
+
+    String tags = field(fields, columns, "tags");
+    row.setTags(tags == null || tags.isBlank()
+        ? List.of()
+        : Arrays.stream(tags.split("\\|")).map(String::trim).toList());
+    return row;
+  }
+
+  private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+    Integer index = columns.get(column);
+    return index == null || index >= fields.size() ? null : fields.get(index);
+  }
+
+  /**
+   * Splits one CSV line into fields. Fields may be quoted with {@code "}, and a
+   * doubled quote inside a quoted field stands for a literal quote.
+   */
+  static List<String> parseCsvLine(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      throw new ValidationException("Unterminated quoted field");
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private record PendingRow(long line, TaskExportDTO row) {
+  }
+
+  /**
+   * Mutable state of one import.
+   */
+  private static final class ImportRun {
+    private final long startNanos = System.nanoTime();
+    private final List<PendingRow> pending = new ArrayList<>(BATCH_SIZE);
+    private final Map<String, Tag> tagsByKey = new HashMap<>();
+    private final List<RejectedRow> rejections = new ArrayList<>();
+    private long line;
+    private long imported;
+    private long rejected;
+
+    private void reject(long lineNumber, String reason) {
+      rejected++;
+      if (rejections.size() < MAX_LISTED_REJECTIONS) {
+        rejections.add(new RejectedRow(lineNumber, reason));
+      }
+    }
+  }
+}
@@ -1,21 +1,44 @@
 package com.example.taskmanagement.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import com.example.taskmanagement.DTO.BulkTaskResultDTO;
+import com.example.taskmanagement.DTO.CursorPageDTO;
+import com.example.taskmanagement.DTO.DueDayCountDTO;
+import com.example.taskmanagement.DTO.TagViewDTO;
+import com.example.taskmanagement.DTO.TaskPatchDTO;
+import com.example.taskmanagement.DTO.TaskSearchPageDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
 import com.example.taskmanagement.Model.Tag;
 import com.example.taskmanagement.Model.Task;
 import com.example.taskmanagement.Repository.TagRepository;
 import com.example.taskmanagement.Repository.TaskRepository;
+import com.example.taskmanagement.Repository.TaskRepositoryCustom.DueState;
+import com.example.taskmanagement.configuration.PaginationProperties;
+import com.example.taskmanagement.event.ChangeType;
+import com.example.taskmanagement.event.TagChangedEvent;
+import com.example.taskmanagement.event.TaskChangedEvent;
 import com.example.taskmanagement.exception.types.ResourceNotFoundException;
 import com.example.taskmanagement.exception.types.ValidationException;
 
+import org.roaringbitmap.RoaringBitmap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -24,11 +47,25 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 @Service
 public class TaskService {
+  /** Deepest ranked match a title search can page to. */
+  private static final int MAX_SEARCH_WINDOW = 10_000;
+  /** Lower bound of the due date queries, the earliest date MySQL's DATE type supports. */
+  private static final LocalDate EARLIEST_DUE_DATE = LocalDate.of(1000, 1, 1);
+  /** Rows read per round trip while a tag filter discards tasks of a due date range. */
+  private static final int DUE_SCAN_BATCH = 1000;
+  /** Longest range of days the due day counts can be read for. */
+  private static final int MAX_CALENDAR_DAYS = 366;
+
   final Logger logger = LoggerFactory.getLogger(TaskService.class);
 
   @Autowired
   private TaskRepository taskRepository;
   private TagRepository tagRepository;
+  private PaginationProperties paginationProperties;
+  private TagNameCache tagNameCache;
+  private TaskTagIndex taskTagIndex;
+  private TaskTitleIndex taskTitleIndex;
+  private ApplicationEventPublisher eventPublisher;
 
   /**
    * This function is responsible for creating a new task in the system.
@@ -50,7 +87,11 @@ public class TaskService {
 
     task.setTags(savedTags);
 
-    return taskRepository.save(task);
+    Task savedTask = taskRepository.save(task);
+    adjustTagCounts(Collections.emptySet(), savedTags);
+    adjustDueDayCounts(null, dueState(savedTask));
+    publishTaskChanged(ChangeType.CREATED, savedTask, Collections.emptySet());
+    return savedTask;
   }
 
   /**
@@ -68,6 +109,10 @@ public class TaskService {
   public void deleteTask(Long id) {
     Task task = taskRepository.findByTaskId(id)
         .orElseThrow(() -> new ResourceNotFoundException("Task with id " + id + " not found"));
+    adjustTagCounts(task.getTags(), Collections.emptySet());
+    adjustDueDayCounts(dueState(task), null);
+    eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.DELETED, task.getId(), task.getTittle(),
+        task.isCompleted(), task.getDueDate(), Collections.emptySet(), tagIds(task.getTags())));
     taskRepository.delete(task);
   }
 
@@ -75,6 +120,9 @@ public class TaskService {
    * Updates an existing task in the system based on the provided task ID and
    * updated task object.
    *
+   * Only the tags that differ are removed from and added to the task, so a
+   * change that keeps the tags touches no join rows.
+   *
    * @param id          The unique identifier of the task to be updated.
    * @param updatedTask The updated task object containing the new details.
    *                    It should contain the task details and associated tags.
@@ -100,67 +148,727 @@ public class TaskService {
           }
 
           // Update task details
+          DueState previousDue = dueState(existingTask);
           existingTask.setTittle(updatedTask.getTittle());
           existingTask.setCompleted(updatedTask.isCompleted());
           existingTask.setDueDate(updatedTask.getDueDate());
 
-          existingTask.getTags().clear();
-          existingTask.getTags().addAll(savedTags);
+          Set<Tag> previousTags = new HashSet<>(existingTask.getTags());
+          replaceTags(existingTask, savedTags);
+          adjustTagCounts(previousTags, savedTags);
+          adjustDueDayCounts(previousDue, dueState(existingTask));
 
-          return taskRepository.save(existingTask);
+          Task savedTask = taskRepository.save(existingTask);
+          publishTaskChanged(ChangeType.UPDATED, savedTask, previousTags);
+          return savedTask;
         })
         .orElseThrow(() -> new ResourceNotFoundException("Task with id " + id + " not found"));
   }
 
+  /**
+   * Applies a partial update to a task without loading it. The fields are
+   * changed with one UPDATE that also increments the version, and only the
+   * join rows of the added and removed tags are written. Tags to remove that
+   * the task does not carry, or that do not exist, are ignored.
+   *
+   * @param id    The unique identifier of the task to be updated.
+   * @param patch The changes to apply.
+   * @return The task after the update.
+   * @throws ValidationException       If the patch is empty, adds and removes
+   *                                   the same tag, or would leave the task
+   *                                   without tags.
+   * @throws ResourceNotFoundException If the task with the given ID is not found.
+   */
+  @Transactional
+  public TaskViewDTO patchTask(Long id, TaskPatchDTO patch) {
+    if (patch == null || !(patch.changesFields() || patch.changesTags())) {
+      throw new ValidationException("Please provide at least one change");
+    }
+    Set<String> addKeys = tagKeys(patch.addTags());
+    Set<String> removeKeys = tagKeys(patch.removeTags());
+    if (!Collections.disjoint(addKeys, removeKeys)) {
+      throw new ValidationException("A tag can not be both added and removed");
+    }
+    if (patch.completed() != null || patch.dueDate() != null || Boolean.TRUE.equals(patch.clearDueDate())) {
+      DueState previousDue = taskRepository.lockDueState(id)
+          .orElseThrow(() -> new ResourceNotFoundException("Task with id " + id + " not found"));
+      LocalDate dueDate = Boolean.TRUE.equals(patch.clearDueDate()) ? null
+          : patch.dueDate() != null ? patch.dueDate() : previousDue.dueDate();
+      boolean completed = patch.completed() != null ? patch.completed() : previousDue.completed();
+      adjustDueDayCounts(previousDue, new DueState(dueDate, completed));
+    }
+    if (!taskRepository.patchTask(id, patch)) {
+      throw new ResourceNotFoundException("Task with id " + id + " not found");
+    }
+
+    Set<Long> previousTagIds = null;
+    Set<Long> currentTagIds = null;
+    if (patch.changesTags()) {
+      previousTagIds = new HashSet<>(taskRepository.findTagIdsByTaskId(id));
+      currentTagIds = new HashSet<>(previousTagIds);
+
+      Set<Long> added = new HashSet<>();
+      if (!addKeys.isEmpty()) {
+        List<Tag> requested = new ArrayList<>();
+        patch.addTags().forEach(name -> requested.add(newTag(name)));
+        for (Tag tag : resolveTagsByKey(requested).values()) {
+          if (!previousTagIds.contains(tag.getId())) {
+            added.add(tag.getId());
+          }
+        }
+      }
+      Set<Long> removed = new HashSet<>();
+      if (!removeKeys.isEmpty()) {
+        for (Tag tag : tagRepository.findByNameIn(patch.removeTags())) {
+          if (previousTagIds.contains(tag.getId())) {
+            removed.add(tag.getId());
+          }
+        }
+      }
+      currentTagIds.addAll(added);
+      currentTagIds.removeAll(removed);
+      if (currentTagIds.isEmpty()) {
+        throw new ValidationException("Please provide at least one tag");
+      }
+
+      taskRepository.unlinkTags(id, removed);
+      taskRepository.linkTags(id, added);
+      Map<Long, Long> deltas = new HashMap<>();
+      removed.forEach(tagId -> deltas.put(tagId, -1L));
+      added.forEach(tagId -> deltas.put(tagId, 1L));
+      tagRepository.adjustTaskCounts(deltas);
+    }
+
+    TaskViewDTO view = taskRepository.findViewsByIds(List.of(id)).get(0);
+    if (currentTagIds == null) {
+      currentTagIds = new HashSet<>();
+      for (TagViewDTO tag : view.tags()) {
+        currentTagIds.add(tag.id());
+      }
+      previousTagIds = currentTagIds;
+    }
+    eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.UPDATED, id, view.tittle(), view.completed(),
+        view.dueDate(), currentTagIds, previousTagIds));
+    return view;
+  }
+
+  /**
+   * Creates and updates many tasks in one transaction.
+   * Items without an id are created, items with an id update the existing
+   * task. The tags of all items are resolved together, new tasks are inserted
+   * with JDBC batching, and the tag counters are adjusted with one batch.
+   * Items that fail validation or reference a missing task are reported and
+   * skipped; the other items are still saved.
+   *
+   * @param tasks The tasks to create or update.
+   * @return One result per item, in request order.
+   */
+  @Transactional
+  public List<BulkTaskResultDTO> saveTasks(List<Task> tasks) {
+    List<BulkTaskResultDTO> results = new ArrayList<>(tasks.size());
+    List<Tag> requestedTags = new ArrayList<>();
+    Set<Long> updateIds = new HashSet<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      Task task = tasks.get(i);
+      String error = validateBulkItem(task);
+      results.add(error == null ? null : BulkTaskResultDTO.failed(i, task == null ? null : task.getId(), error));
+      if (error == null) {
+        requestedTags.addAll(task.getTags());
+        if (task.getId() != null) {
+          updateIds.add(task.getId());
+        }
+      }
+    }
+
+    Map<String, Tag> resolvedTags = requestedTags.isEmpty() ? Collections.emptyMap() : resolveTagsByKey(requestedTags);
+    Map<Long, Task> existingTasks = new HashMap<>();
+    if (!updateIds.isEmpty()) {
+      taskRepository.findAllById(updateIds).forEach(existing -> existingTasks.put(existing.getId(), existing));
+    }
+
+    Map<Long, Long> deltas = new HashMap<>();
+    Map<LocalDate, DueDayCountDTO> dueDeltas = new HashMap<>();
+    List<Task> created = new ArrayList<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      if (results.get(i) != null) {
+        continue;
+      }
+      Task task = tasks.get(i);
+      Set<Tag> savedTags = new HashSet<>();
+      task.getTags().forEach(tag -> savedTags.add(resolvedTags.get(TagNameCache.key(tag.getName()))));
+
+      if (task.getId() == null) {
+        task.setTags(savedTags);
+        created.add(task);
+        continue;
+      }
+
+      Task existingTask = existingTasks.get(task.getId());
+      if (existingTask == null) {
+        results.set(i, BulkTaskResultDTO.failed(i, task.getId(), "Task with id " + task.getId() + " not found"));
+        continue;
+      }
+      DueState previousDue = dueState(existingTask);
+      existingTask.setTittle(task.getTittle());
+      existingTask.setCompleted(task.isCompleted());
+      existingTask.setDueDate(task.getDueDate());
+      collectDueDayDeltas(dueDeltas, previousDue, dueState(existingTask));
+      Set<Tag> previousTags = new HashSet<>(existingTask.getTags());
+      replaceTags(existingTask, savedTags);
+      collectTagCountDeltas(deltas, previousTags, savedTags);
+      publishTaskChanged(ChangeType.UPDATED, existingTask, previousTags);
+      results.set(i, BulkTaskResultDTO.updated(i, existingTask.getId()));
+    }
+
+    createTasksWithResolvedTags(created);
+    tagRepository.adjustTaskCounts(deltas);
+    taskRepository.adjustDueDayCounts(dueDeltas.values());
+    for (int i = 0; i < tasks.size(); i++) {
+      if (results.get(i) == null) {
+        results.set(i, BulkTaskResultDTO.created(i, tasks.get(i).getId()));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Inserts new tasks whose tags have already been resolved to persisted rows
+   * (for example by {@link #processedTag(Set)}), using JDBC batching, and
+   * adjusts the tag counters with one batch.
+   *
+   * @param tasks The tasks to insert. Their ids are assigned on return.
+   */
+  @Transactional
+  public void createTasksWithResolvedTags(List<Task> tasks) {
+    if (tasks.isEmpty()) {
+      return;
+    }
+    Map<Long, Long> deltas = new HashMap<>();
+    Map<LocalDate, DueDayCountDTO> dueDeltas = new HashMap<>();
+    tasks.forEach(task -> {
+      collectTagCountDeltas(deltas, Collections.emptySet(), task.getTags());
+      collectDueDayDeltas(dueDeltas, null, dueState(task));
+    });
+    taskRepository.saveAll(tasks);
+    tagRepository.adjustTaskCounts(deltas);
+    taskRepository.adjustDueDayCounts(dueDeltas.values());
+    tasks.forEach(task -> publishTaskChanged(ChangeType.CREATED, task, Collections.emptySet()));
+  }
+
+  /**
+   * Checks one item of a bulk request.
+   *
+   * @return The reason the item is rejected, or null when it is valid.
+   */
+  private static String validateBulkItem(Task task) {
+    if (task == null) {
+      return "Task must not be null";
+    }
+    if (task.getTags() == null || task.getTags().isEmpty()) {
+      return "Please provide at least one tag";
+    }
+    for (Tag tag : task.getTags()) {
+      if (tag == null) {
+        return "Tag must not be null";
+      }
+      if (tag.getName() == null || tag.getName().isBlank()) {
+        return "Tag name must not be empty";
+      }
+    }
+    return null;
+  }
+
   /**
    * Processes a set of tags to ensure they exist in the system.
    * If a tag does not exist, it is saved in the system.
    *
+   * Tags are first looked up in the {@link TagNameCache}. The remaining names
+   * are resolved with a single {@code findByNameIn}, and the ones that still do
+   * not exist are upserted with one JDBC batch and read back with a locking
+   * {@code findCurrentByNameIn}, so the number of round trips does not depend on
+   * the number of tags. Because the insert skips names that already exist,
+   * concurrent requests creating the same new tag both succeed and end up
+   * with the same row instead of one of them failing on the unique constraint.
+   *
    * @param tags The set of tags to be processed.
    * @return A set of processed tags. If the input set is null or empty, an empty
    *         set is returned.
    *         Each processed tag is guaranteed to have a unique ID and name.
+   * @throws ValidationException If a tag has no name.
    */
   public Set<Tag> processedTag(Set<Tag> tags) {
     if (tags == null || tags.isEmpty()) {
       return Collections.emptySet();
     }
+    return new HashSet<>(resolveTagsByKey(tags).values());
+  }
 
-    Set<Tag> savedTags = new HashSet<>();
+  /**
+   * Resolves tags as described in {@link #processedTag(Set)}, keyed by
+   * {@link TagNameCache#key(String)} so callers can map the result back to the
+   * tags they asked for.
+   *
+   * @param tags The tags to resolve.
+   * @return The persisted tags by cache key.
+   * @throws ValidationException If a tag has no name.
+   */
+  private Map<String, Tag> resolveTagsByKey(Collection<Tag> tags) {
+    Map<String, Tag> requested = new LinkedHashMap<>();
     for (Tag tag : tags) {
-      Tag savedTag = tagRepository.findByName(tag.getName())
-          .orElseGet(() -> tagRepository.save(tag));
-      savedTags.add(savedTag);
+      if (tag.getName() == null || tag.getName().isBlank()) {
+        throw new ValidationException("Tag name must not be empty");
+      }
+      requested.putIfAbsent(TagNameCache.key(tag.getName()), tag);
     }
-    return savedTags;
+
+    Map<String, Tag> resolved = new HashMap<>(tagNameCache.getAllPresent(requested.keySet()));
+    if (resolved.size() < requested.size()) {
+      Map<String, Tag> missing = new LinkedHashMap<>(requested);
+      missing.keySet().removeAll(resolved.keySet());
+      resolveMissing(missing, resolved);
+    }
+    return resolved;
   }
 
   /**
-   * Retrieves a list of tasks from the system based on the provided filter.
-   * If the 'isCompleted' parameter is present, the function returns tasks that
-   * match the specified completion status.
-   * If the 'isCompleted' parameter is not present, the function returns all
-   * tasks.
+   * Resolves tags that were not in the cache, inserting those that do not
+   * exist yet, and caches the results. A {@link TagChangedEvent} is published
+   * for every inserted tag, and also for a tag another transaction inserted
+   * concurrently, so listeners must treat it as an upsert.
+   *
+   * @param missing  The requested tags by cache key.
+   * @param resolved The map the resolved tags are added to.
+   */
+  private void resolveMissing(Map<String, Tag> missing, Map<String, Tag> resolved) {
+    Set<String> names = new HashSet<>();
+    missing.values().forEach(tag -> names.add(tag.getName()));
+    for (Tag existing : tagRepository.findByNameIn(names)) {
+      String key = TagNameCache.key(existing.getName());
+      resolved.put(key, existing);
+      missing.remove(key);
+      tagNameCache.put(existing);
+    }
+
+    if (missing.isEmpty()) {
+      return;
+    }
+    tagRepository.upsertTags(missing.values());
+    names.clear();
+    missing.values().forEach(tag -> names.add(tag.getName()));
+    for (Tag created : tagRepository.findCurrentByNameIn(names)) {
+      resolved.put(TagNameCache.key(created.getName()), created);
+      tagNameCache.put(created);
+      eventPublisher.publishEvent(new TagChangedEvent(ChangeType.CREATED, created.getId(), created.getName()));
+    }
+  }
+
+  /**
+   * Makes the tags of a managed task equal to {@code tags} by removing and
+   * adding only the elements that differ, so Hibernate writes just the
+   * changed join rows instead of deleting and reinserting all of them. Tags
+   * are compared by id because resolved tags may be detached cached copies.
+   */
+  private static void replaceTags(Task task, Set<Tag> tags) {
+    Set<Long> ids = tagIds(tags);
+    task.getTags().removeIf(tag -> !ids.contains(tag.getId()));
+    Set<Long> kept = tagIds(task.getTags());
+    for (Tag tag : tags) {
+      if (!kept.contains(tag.getId())) {
+        task.getTags().add(tag);
+      }
+    }
+  }
+
+  /**
+   * Normalizes the tag names of a patch into {@link TagNameCache} keys.
+   *
+   * @throws ValidationException If a name is blank.
+   */
+  private static Set<String> tagKeys(Set<String> names) {
+    if (names == null) {
+      return Collections.emptySet();
+    }
+    Set<String> keys = new HashSet<>();
+    for (String name : names) {
+      if (name == null || name.isBlank()) {
+        throw new ValidationException("Tag name must not be empty");
+      }
+      keys.add(TagNameCache.key(name));
+    }
+    return keys;
+  }
+
+  private static Tag newTag(String name) {
+    Tag tag = new Tag();
+    tag.setName(name);
+    return tag;
+  }
+
+  /**
+   * Moves a task between the per-day due counts when its due date or status
+   * changed. Runs in the caller's transaction.
+   *
+   * @param previous The state before the write, null for a new task.
+   * @param current  The state after the write, null for a deleted task.
+   */
+  private void adjustDueDayCounts(DueState previous, DueState current) {
+    Map<LocalDate, DueDayCountDTO> deltas = new HashMap<>();
+    collectDueDayDeltas(deltas, previous, current);
+    taskRepository.adjustDueDayCounts(deltas.values());
+  }
+
+  /**
+   * Adds the due count changes of one task write to {@code deltas}, so that
+   * several task writes can be applied with a single batch.
+   */
+  private static void collectDueDayDeltas(Map<LocalDate, DueDayCountDTO> deltas, DueState previous,
+      DueState current) {
+    addDueDay(deltas, previous, -1);
+    addDueDay(deltas, current, 1);
+  }
+
+  private static void addDueDay(Map<LocalDate, DueDayCountDTO> deltas, DueState state, long sign) {
+    if (state == null || state.dueDate() == null) {
+      return;
+    }
+    deltas.merge(state.dueDate(), new DueDayCountDTO(state.dueDate(), sign, state.completed() ? 0 : sign),
+        DueDayCountDTO::plus);
+  }
+
+  private static DueState dueState(Task task) {
+    return new DueState(task.getDueDate(), task.isCompleted());
+  }
+
+  /**
+   * Adjusts the per-tag task counters for a task whose tags changed from
+   * {@code previousTags} to {@code currentTags}. Runs in the caller's
+   * transaction with atomic increments.
+   *
+   * @param previousTags The tags the task carried before the write, empty for
+   *                     a new task.
+   * @param currentTags  The tags the task carries after the write, empty for a
+   *                     deleted task.
+   */
+  private void adjustTagCounts(Set<Tag> previousTags, Set<Tag> currentTags) {
+    Map<Long, Long> deltas = new HashMap<>();
+    collectTagCountDeltas(deltas, previousTags, currentTags);
+    tagRepository.adjustTaskCounts(deltas);
+  }
+
+  /**
+   * Adds the counter changes of one task write to {@code deltas}, so that
+   * several task writes can be applied with a single batch.
+   */
+  private static void collectTagCountDeltas(Map<Long, Long> deltas, Set<Tag> previousTags, Set<Tag> currentTags) {
+    tagIds(previousTags).forEach(tagId -> deltas.merge(tagId, -1L, Long::sum));
+    tagIds(currentTags).forEach(tagId -> deltas.merge(tagId, 1L, Long::sum));
+  }
+
+  /**
+   * Publishes the change of a created or updated task. Listeners receive it
+   * once the transaction commits.
+   */
+  private void publishTaskChanged(ChangeType type, Task task, Set<Tag> previousTags) {
+    eventPublisher.publishEvent(new TaskChangedEvent(type, task.getId(), task.getTittle(), task.isCompleted(),
+        task.getDueDate(), tagIds(task.getTags()), tagIds(previousTags)));
+  }
+
+  private static Set<Long> tagIds(Set<Tag> tags) {
+    Set<Long> ids = new HashSet<>();
+    for (Tag tag : tags) {
+      ids.add(tag.getId());
+    }
+    return ids;
+  }
+
+  /**
+   * Retrieves one page of tasks, optionally filtered by completion status.
+   * Tasks are returned in id order and paginated with a keyset cursor, so the
+   * cost of a page does not depend on how deep into the table it is.
+   *
+   * The page is read with two queries whatever its size: one for the ids of
+   * the page and one that loads those tasks and their tags as read models.
    *
    * @param isCompleted An optional boolean value representing the completion
    *                    status of the tasks to be retrieved.
-   *                    If present, the function returns tasks with the specified
-   *                    completion status.
-   *                    If not present, the function returns all tasks.
+   *                    If not present, tasks of any status are returned.
+   * @param limit       The requested page size, clamped to the configured
+   *                    maximum. The default page size is used when null.
+   * @param after       The opaque cursor returned with the previous page, or
+   *                    null for the first page.
+   *
+   * @return The page of tasks and the cursor of the next page, which is null
+   *         when there are no more tasks.
+   *
+   * @throws ValidationException If the cursor is malformed.
+   */
+  @Transactional
+  public CursorPageDTO<TaskViewDTO> getTasksPage(Optional<Boolean> isCompleted, Integer limit, String after) {
+    int pageSize = paginationProperties.resolve(limit);
+    long afterId = CursorCodec.decode(after);
+    Pageable fetch = PageRequest.of(0, pageSize + 1);
+
+    List<Long> ids = isCompleted.isPresent()
+        ? taskRepository.findIdPageByCompletedAfter(isCompleted.get(), afterId, fetch)
+        : taskRepository.findIdPageAfter(afterId, fetch);
+
+    String nextCursor = null;
+    if (ids.size() > pageSize) {
+      ids = ids.subList(0, pageSize);
+      nextCursor = CursorCodec.encode(ids.get(pageSize - 1));
+    }
+    return new CursorPageDTO<>(taskRepository.findViewsByIds(ids), nextCursor, pageSize);
+  }
+
+  /**
+   * Retrieves one page of tasks matching a boolean tag expression, evaluated on
+   * the in-memory {@link TaskTagIndex}. Only the ids of the returned page are
+   * loaded from the database.
+   *
+   * @param allOf       Names of tags every task must have.
+   * @param anyOf       Names of tags of which a task must have at least one.
+   * @param noneOf      Names of tags a task must not have.
+   * @param isCompleted The completion status to filter by, if present.
+   * @param limit       The requested page size, clamped to the configured
+   *                    maximum. The default page size is used when null.
+   * @param after       The cursor returned with the previous page, or null for
+   *                    the first page.
+   * @return The page of tasks and the cursor of the next page, which is null
+   *         when there are no more tasks.
+   * @throws ValidationException If the cursor is malformed.
+   */
+  @Transactional
+  public CursorPageDTO<TaskViewDTO> queryTasksByTags(Collection<String> allOf, Collection<String> anyOf,
+      Collection<String> noneOf, Optional<Boolean> isCompleted, Integer limit, String after) {
+    int pageSize = paginationProperties.resolve(limit);
+    long afterId = CursorCodec.decode(after);
+
+    Optional<TagFilter> filter = resolveTagFilter(allOf, anyOf, noneOf);
+    if (filter.isEmpty()) {
+      return new CursorPageDTO<>(List.of(), null, pageSize);
+    }
+
+    List<Long> ids = taskTagIndex.findTaskIds(filter.get().allOf(), filter.get().anyOf(), filter.get().noneOf(),
+        isCompleted, afterId, pageSize + 1);
+    String nextCursor = null;
+    if (ids.size() > pageSize) {
+      ids = ids.subList(0, pageSize);
+      nextCursor = CursorCodec.encode(ids.get(pageSize - 1));
+    }
+    return new CursorPageDTO<>(taskRepository.findViewsByIds(ids), nextCursor, pageSize);
+  }
+
+  /**
+   * Searches task titles for a case-insensitive substring, evaluated on the
+   * in-memory {@link TaskTitleIndex} and restricted by the same tag and
+   * completion filters as {@link #queryTasksByTags}. Results are ranked with
+   * exact titles first, then title prefixes, then matches at a word start.
+   * Only the ids of the returned page are loaded from the database.
+   *
+   * @param query       The text to search for.
+   * @param allOf       Names of tags every task must have.
+   * @param anyOf       Names of tags of which a task must have at least one.
+   * @param noneOf      Names of tags a task must not have.
+   * @param isCompleted The completion status to filter by, if present.
+   * @param page        The zero-based page number.
+   * @param size        The requested page size, clamped to the configured
+   *                    maximum. The default page size is used when null.
+   * @return The page of ranked tasks and the total number of matches.
+   * @throws ValidationException If the query is too short, the page is
+   *                             negative or the page lies too deep in the
+   *                             ranking.
+   */
+  @Transactional
+  public TaskSearchPageDTO searchTasks(String query, Collection<String> allOf, Collection<String> anyOf,
+      Collection<String> noneOf, Optional<Boolean> isCompleted, int page, Integer size) {
+    if (query == null || query.length() < TaskTitleIndex.MIN_QUERY_LENGTH) {
+      throw new ValidationException("Search query must be at least " + TaskTitleIndex.MIN_QUERY_LENGTH
+          + " characters long");
+    }
+    if (page < 0) {
+      throw new ValidationException("Page number must not be negative");
+    }
+    int pageSize = paginationProperties.resolve(size);
+    if ((long) (page + 1) * pageSize > MAX_SEARCH_WINDOW) {
+      throw new ValidationException("Search results are limited to the first " + MAX_SEARCH_WINDOW
+          + " matches, please refine the query");
+    }
+
+    Optional<TagFilter> filter = resolveTagFilter(allOf, anyOf, noneOf);
+    if (filter.isEmpty()) {
+      return new TaskSearchPageDTO(List.of(), 0, page, pageSize);
+    }
+    RoaringBitmap allowed = taskTagIndex.match(filter.get().allOf(), filter.get().anyOf(), filter.get().noneOf(),
+        isCompleted);
+    TaskTitleIndex.SearchResult result = taskTitleIndex.search(query, allowed, page * pageSize, pageSize);
+    return new TaskSearchPageDTO(taskRepository.findViewsByIds(result.taskIds()), result.total(), page, pageSize);
+  }
+
+  /**
+   * Retrieves one page of the tasks due in a date range, ordered by due date
+   * and then id, with a cursor holding both. The range is read from the
+   * {@code (due_date, id)} index, or {@code (completed, due_date, id)} when a
+   * status is given, so a page costs a range scan of its own rows.
    *
-   * @return A list of tasks that match the specified filter.
-   *         If the 'isCompleted' parameter is present, the list contains tasks
-   *         with the specified completion status.
-   *         If the 'isCompleted' parameter is not present, the list contains all
-   *         tasks.
+   * Tag filters are evaluated on the in-memory {@link TaskTagIndex}; the
+   * range is then read in batches and tasks outside the filter are skipped,
+   * so a rare tag combination over a wide range reads more rows per page.
    *
+   * @param from        The first due date, inclusive; unbounded when null.
+   * @param to          The last due date, inclusive.
+   * @param isCompleted The completion status to filter by, if present.
+   * @param allOf       Names of tags every task must have.
+   * @param anyOf       Names of tags of which a task must have at least one.
+   * @param noneOf      Names of tags a task must not have.
+   * @param limit       The requested page size, clamped to the configured
+   *                    maximum. The default page size is used when null.
+   * @param after       The cursor returned with the previous page, or null for
+   *                    the first page.
+   * @return The page of tasks and the cursor of the next page, which is null
+   *         when there are no more tasks.
+   * @throws ValidationException If the range is missing or reversed, or the
+   *                             cursor is malformed.
    */
   @Transactional
-  public List<Task> getAllTasksOrByFilterIsComplete(Optional<Boolean> isCompleted) {
-    if (isCompleted.isPresent()) {
-      return taskRepository.findAllByCompleted(isCompleted.get());
-    } else {
-      return taskRepository.findAll();
+  public CursorPageDTO<TaskViewDTO> getTasksDue(LocalDate from, LocalDate to, Optional<Boolean> isCompleted,
+      Collection<String> allOf, Collection<String> anyOf, Collection<String> noneOf, Integer limit, String after) {
+    LocalDate first = from == null ? EARLIEST_DUE_DATE : from;
+    if (to == null) {
+      throw new ValidationException("Please provide the last due date of the range");
+    }
+    if (to.isBefore(first)) {
+      throw new ValidationException("The range must not end before it starts");
+    }
+    int pageSize = paginationProperties.resolve(limit);
+    CursorCodec.DueCursor cursor = CursorCodec.decodeDue(after);
+    LocalDate afterDay = cursor == null ? first : cursor.day();
+    long afterId = cursor == null ? 0L : cursor.id();
+
+    RoaringBitmap allowed = null;
+    if (!allOf.isEmpty() || !anyOf.isEmpty() || !noneOf.isEmpty()) {
+      Optional<TagFilter> filter = resolveTagFilter(allOf, anyOf, noneOf);
+      if (filter.isEmpty()) {
+        return new CursorPageDTO<>(List.of(), null, pageSize);
+      }
+      allowed = taskTagIndex.match(filter.get().allOf(), filter.get().anyOf(), filter.get().noneOf(),
+          isCompleted);
+    }
+
+    int batch = allowed == null ? pageSize + 1 : Math.max(pageSize + 1, DUE_SCAN_BATCH);
+    List<Long> ids = new ArrayList<>(pageSize + 1);
+    List<LocalDate> days = new ArrayList<>(pageSize + 1);
+    while (ids.size() <= pageSize) {
+      Pageable fetch = PageRequest.of(0, batch);
+      List<Object[]> rows = isCompleted.isPresent()
+          ? taskRepository.findDueKeysByCompletedAfter(isCompleted.get(), first, to, afterDay, afterId, fetch)
+          : taskRepository.findDueKeysAfter(first, to, afterDay, afterId, fetch);
+      for (Object[] row : rows) {
+        afterId = (Long) row[0];
+        afterDay = (LocalDate) row[1];
+        if (allowed == null || (afterId <= Integer.MAX_VALUE && allowed.contains((int) afterId))) {
+          ids.add(afterId);
+          days.add(afterDay);
+          if (ids.size() > pageSize) {
+            break;
+          }
+        }
+      }
+      if (rows.size() < batch) {
+        break;
+      }
     }
+
+    String nextCursor = null;
+    if (ids.size() > pageSize) {
+      ids = ids.subList(0, pageSize);
+      nextCursor = CursorCodec.encode(days.get(pageSize - 1), ids.get(pageSize - 1));
+    }
+    return new CursorPageDTO<>(taskRepository.findViewsByIds(ids), nextCursor, pageSize);
+  }
+
+  /**
+   * Retrieves one page of the incomplete tasks due before today, oldest due
+   * date first. See {@link #getTasksDue} for the filters and the cursor.
+   */
+  @Transactional
+  public CursorPageDTO<TaskViewDTO> getOverdueTasks(Collection<String> allOf, Collection<String> anyOf,
+      Collection<String> noneOf, Integer limit, String after) {
+    return getTasksDue(null, LocalDate.now().minusDays(1), Optional.of(false), allOf, anyOf, noneOf, limit, after);
+  }
+
+  /**
+   * Retrieves one page of the tasks due today. See {@link #getTasksDue} for
+   * the filters and the cursor.
+   */
+  @Transactional
+  public CursorPageDTO<TaskViewDTO> getTasksDueToday(Optional<Boolean> isCompleted, Collection<String> allOf,
+      Collection<String> anyOf, Collection<String> noneOf, Integer limit, String after) {
+    LocalDate today = LocalDate.now();
+    return getTasksDue(today, today, isCompleted, allOf, anyOf, noneOf, limit, after);
+  }
+
+  /**
+   * Reads the number of tasks due on each day of a range from the per-day
+   * counts, so a calendar month costs one small query whatever the number of
+   * tasks.
+   *
+   * @param from The first day, inclusive.
+   * @param to   The last day, inclusive.
+   * @return The counts of the days that have tasks, in day order.
+   * @throws ValidationException If the range is missing, reversed or longer
+   *                             than a year.
+   */
+  public List<DueDayCountDTO> getDueDayCounts(LocalDate from, LocalDate to) {
+    if (from == null || to == null) {
+      throw new ValidationException("Please provide the first and last day of the range");
+    }
+    if (to.isBefore(from)) {
+      throw new ValidationException("The range must not end before it starts");
+    }
+    if (from.plusDays(MAX_CALENDAR_DAYS).isBefore(to)) {
+      throw new ValidationException("The range must not be longer than " + MAX_CALENDAR_DAYS + " days");
+    }
+    return taskRepository.findDueDayCounts(from, to);
+  }
+
+  /**
+   * Resolves the tag names of a tag filter to ids with one query.
+   *
+   * @return The filter, or empty when it can not match any task because a
+   *         required tag, or every optional tag, does not exist.
+   */
+  private Optional<TagFilter> resolveTagFilter(Collection<String> allOf, Collection<String> anyOf,
+      Collection<String> noneOf) {
+    Map<String, Long> idsByKey = new HashMap<>();
+    Set<String> names = new HashSet<>();
+    names.addAll(allOf);
+    names.addAll(anyOf);
+    names.addAll(noneOf);
+    if (!names.isEmpty()) {
+      tagRepository.findByNameIn(names).forEach(tag -> idsByKey.put(TagNameCache.key(tag.getName()), tag.getId()));
+    }
+    Set<Long> allOfIds = tagIdsByName(allOf, idsByKey);
+    Set<Long> anyOfIds = tagIdsByName(anyOf, idsByKey);
+    if (allOfIds.contains(null) || (!anyOf.isEmpty() && anyOfIds.stream().allMatch(Objects::isNull))) {
+      return Optional.empty();
+    }
+    Set<Long> noneOfIds = tagIdsByName(noneOf, idsByKey);
+    anyOfIds.remove(null);
+    noneOfIds.remove(null);
+    return Optional.of(new TagFilter(allOfIds, anyOfIds, noneOfIds));
+  }
+
+  /**
+   * Maps tag names to ids. Unknown names map to a null element.
+   */
+  private static Set<Long> tagIdsByName(Collection<String> names, Map<String, Long> idsByKey) {
+    Set<Long> ids = new HashSet<>();
+    for (String name : names) {
+      ids.add(idsByKey.get(TagNameCache.key(name)));
+    }
+    return ids;
+  }
+
+  private record TagFilter(Set<Long> allOf, Set<Long> anyOf, Set<Long> noneOf) {
   }
 }
@@ -0,0 +1,275 @@
+package com.example.taskmanagement.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.example.taskmanagement.event.ChangeType;
+import com.example.taskmanagement.event.TagChangedEvent;
+import com.example.taskmanagement.event.TagMergedEvent;
+import com.example.taskmanagement.event.TaskChangedEvent;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index from tag to tasks, used to answer boolean tag
+ * queries without joining task_tag.
+ *
+ * <p>Each tag maps to a compressed bitmap of the ids of its tasks, and two more
+ * bitmaps hold every task and the completed tasks. The index is loaded from
+ * the database at startup and then kept up to date from the committed
+ * {@link TaskChangedEvent}s and {@link TagChangedEvent}s. Bitmaps hold 32-bit
+ * values, so task ids must fit in an int. The memory used by the bitmaps is
+ * published as the {@code tasks.tag.index.bytes} gauge.</p>
+ */
+@Slf4j
+@Component
+public class TaskTagIndex {
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RoaringBitmap> tasksByTag = new HashMap<>();
+    private final RoaringBitmap allTasks = new RoaringBitmap();
+    private final RoaringBitmap completedTasks = new RoaringBitmap();
+
+    /**
+     * @param entityManagerFactory Injected only so that the schema is created
+     *                             before the index is loaded.
+     */
+    public TaskTagIndex(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                        MeterRegistry meterRegistry) {
+        // A copy, so that the large fetch size does not leak into the shared template
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        Gauge.builder("tasks.tag.index.bytes", this, TaskTagIndex::sizeInBytes)
+                .description("Memory used by the tag to task bitmaps")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads every task and task_tag row. Runs before the application accepts
+     * requests, so no write can be missed.
+     */
+    @PostConstruct
+    void load() {
+        final long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            jdbcTemplate.query("SELECT id, completed FROM tasks", rs -> {
+                final int taskId = toInt(rs.getLong(1));
+                allTasks.add(taskId);
+                if (rs.getBoolean(2)) {
+                    completedTasks.add(taskId);
+                }
+            });
+            jdbcTemplate.query("SELECT tag_id, task_id FROM task_tag", rs -> {
+                tasksByTag.computeIfAbsent(rs.getLong(1), tagId -> new RoaringBitmap()).add(toInt(rs.getLong(2)));
+            });
+            allTasks.runOptimize();
+            completedTasks.runOptimize();
+            tasksByTag.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded tag index: {} tasks, {} tags, {} bytes in {} ms", allTasks.getLongCardinality(),
+                tasksByTag.size(), sizeInBytes(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies a committed task write.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(final TaskChangedEvent event) {
+        final int taskId = toInt(event.taskId());
+        lock.writeLock().lock();
+        try {
+            for (final Long tagId : event.previousTagIds()) {
+                if (!event.tagIds().contains(tagId)) {
+                    final RoaringBitmap tasks = tasksByTag.get(tagId);
+                    if (tasks != null) {
+                        tasks.remove(taskId);
+                    }
+                }
+            }
+            if (event.type() == ChangeType.DELETED) {
+                allTasks.remove(taskId);
+                completedTasks.remove(taskId);
+                return;
+            }
+            for (final Long tagId : event.tagIds()) {
+                tasksByTag.computeIfAbsent(tagId, id -> new RoaringBitmap()).add(taskId);
+            }
+            allTasks.add(taskId);
+            if (event.completed()) {
+                completedTasks.add(taskId);
+            } else {
+                completedTasks.remove(taskId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the bitmap of a committed tag delete.
+     */
+    @TransactionalEventListener
+    public void onTagChanged(final TagChangedEvent event) {
+        if (event.type() != ChangeType.DELETED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            tasksByTag.remove(event.tagId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the tasks of a committed merge to the target bitmap.
+     */
+    @TransactionalEventListener
+    public void onTagMerged(final TagMergedEvent event) {
+        lock.writeLock().lock();
+        try {
+            final RoaringBitmap source = tasksByTag.remove(event.sourceTagId());
+            if (source != null) {
+                tasksByTag.computeIfAbsent(event.targetTagId(), id -> new RoaringBitmap()).or(source);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Evaluates a boolean tag expression and returns one page of matching task
+     * ids in ascending order.
+     *
+     * @param allOf     Tags every task must have. Empty means no restriction.
+     * @param anyOf     Tags of which a task must have at least one. Empty means
+     *                  no restriction.
+     * @param noneOf    Tags a task must not have.
+     * @param completed The completion status to filter by, if present.
+     * @param afterId   Only ids greater than this are returned.
+     * @param limit     The maximum number of ids to return.
+     * @return The matching task ids.
+     */
+    public List<Long> findTaskIds(final Collection<Long> allOf, final Collection<Long> anyOf,
+                                  final Collection<Long> noneOf, final Optional<Boolean> completed,
+                                  final long afterId, final int limit) {
+        final RoaringBitmap matches = match(allOf, anyOf, noneOf, completed);
+        final List<Long> ids = new ArrayList<>(limit);
+        if (afterId >= Integer.MAX_VALUE) {
+            return ids;
+        }
+        final PeekableIntIterator iterator = matches.getIntIterator();
+        iterator.advanceIfNeeded((int) afterId + 1);
+        while (iterator.hasNext() && ids.size() < limit) {
+            ids.add((long) iterator.next());
+        }
+        return ids;
+    }
+
+    /**
+     * Evaluates a boolean tag expression into a bitmap of the matching task ids.
+     *
+     * @param allOf     Tags every task must have. Empty means no restriction.
+     * @param anyOf     Tags of which a task must have at least one. Empty means
+     *                  no restriction.
+     * @param noneOf    Tags a task must not have.
+     * @param completed The completion status to filter by, if present.
+     * @return A new bitmap that the caller may modify.
+     */
+    public RoaringBitmap match(final Collection<Long> allOf, final Collection<Long> anyOf,
+                               final Collection<Long> noneOf, final Optional<Boolean> completed) {
+        lock.readLock().lock();
+        try {
+            return evaluate(allOf, anyOf, noneOf, completed);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Builds a new bitmap of the matching tasks. Must be called with the read
+     * lock held; the result shares no state with the index.
+     */
+    private RoaringBitmap evaluate(final Collection<Long> allOf, final Collection<Long> anyOf,
+                                   final Collection<Long> noneOf, final Optional<Boolean> completed) {
+        RoaringBitmap matches;
+        if (allOf.isEmpty()) {
+            matches = allTasks.clone();
+        } else {
+            final List<RoaringBitmap> required = bitmaps(allOf);
+            if (required.size() < allOf.size()) {
+                return new RoaringBitmap();
+            }
+            matches = required.size() == 1 ? required.get(0).clone() : FastAggregation.and(required.iterator());
+        }
+        if (!anyOf.isEmpty()) {
+            matches.and(FastAggregation.or(bitmaps(anyOf).iterator()));
+        }
+        if (!noneOf.isEmpty()) {
+            matches.andNot(FastAggregation.or(bitmaps(noneOf).iterator()));
+        }
+        if (completed.isPresent()) {
+            if (completed.get()) {
+                matches.and(completedTasks);
+            } else {
+                matches.andNot(completedTasks);
+            }
+        }
+        return matches;
+    }
+
+    private List<RoaringBitmap> bitmaps(final Collection<Long> tagIds) {
+        final List<RoaringBitmap> bitmaps = new ArrayList<>(tagIds.size());
+        for (final Long tagId : tagIds) {
+            final RoaringBitmap tasks = tasksByTag.get(tagId);
+            if (tasks != null) {
+                bitmaps.add(tasks);
+            }
+        }
+        return bitmaps;
+    }
+
+    private long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = allTasks.getLongSizeInBytes() + completedTasks.getLongSizeInBytes();
+            for (final RoaringBitmap tasks : tasksByTag.values()) {
+                bytes += tasks.getLongSizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int toInt(final long taskId) {
+        if (taskId < 0 || taskId > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Task id " + taskId + " does not fit in the tag index");
+        }
+        return (int) taskId;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.taskmanagement.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.example.taskmanagement.event.ChangeType;
+import com.example.taskmanagement.event.TaskChangedEvent;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory trigram index over task titles, used for case-insensitive
+ * substring search without a {@code LIKE '%x%'} scan.
+ *
+ * <p>Every three-character window of a lower-cased title maps to a bitmap of
+ * the tasks whose title contains it. A query is answered by intersecting the
+ * bitmaps of its own trigrams, which yields a small candidate set, and then
+ * checking each candidate against the lower-cased title kept in memory. Like
+ * {@link TaskTagIndex}, it is loaded at startup and then follows the committed
+ * {@link TaskChangedEvent}s. The number of indexed trigrams is published as
+ * the {@code tasks.title.index.trigrams} gauge.</p>
+ */
+@Slf4j
+@Component
+public class TaskTitleIndex {
+
+    /** Length of the shortest query the index can answer. */
+    public static final int MIN_QUERY_LENGTH = 3;
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    /**
+     * Better matches first: an exact title, then a title prefix, then a match
+     * at the start of a word, then any other substring; ties go to the earlier
+     * match, the shorter title and the older task.
+     */
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::rank)
+            .thenComparingInt(Hit::position)
+            .thenComparingInt(Hit::length)
+            .thenComparingInt(Hit::taskId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RoaringBitmap> tasksByTrigram = new HashMap<>();
+    private final Map<Integer, String> titles = new HashMap<>();
+
+    /**
+     * @param entityManagerFactory Injected only so that the schema is created
+     *                             before the index is loaded.
+     */
+    public TaskTitleIndex(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry) {
+        // A copy, so that the large fetch size does not leak into the shared template
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        Gauge.builder("tasks.title.index.trigrams", this, TaskTitleIndex::trigramCount)
+                .description("Distinct trigrams in the task title index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the title of every task. Runs before the application accepts
+     * requests, so no write can be missed.
+     */
+    @PostConstruct
+    void load() {
+        final long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            jdbcTemplate.query("SELECT id, tittle FROM tasks", rs -> {
+                add(toInt(rs.getLong(1)), rs.getString(2));
+            });
+            tasksByTrigram.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded title index: {} tasks, {} trigrams in {} ms", titles.size(), tasksByTrigram.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies a committed task write.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(final TaskChangedEvent event) {
+        final int taskId = toInt(event.taskId());
+        lock.writeLock().lock();
+        try {
+            if (event.type() == ChangeType.DELETED) {
+                remove(taskId);
+                return;
+            }
+            final String previous = titles.get(taskId);
+            if (previous == null || !previous.equals(normalize(event.tittle()))) {
+                remove(taskId);
+                add(taskId, event.tittle());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the tasks whose title contains the query, ignoring case, ranked
+     * best match first.
+     *
+     * @param query  The text to search for, at least {@link #MIN_QUERY_LENGTH}
+     *               characters long.
+     * @param filter The tasks allowed in the result, for example from
+     *               {@link TaskTagIndex#match}.
+     * @param offset The number of ranked matches to skip.
+     * @param limit  The maximum number of matches to return.
+     * @return The task ids of the requested page and the total number of matches.
+     */
+    public SearchResult search(final String query, final RoaringBitmap filter, final int offset, final int limit) {
+        final String needle = normalize(query);
+        final int window = offset + limit;
+        final PriorityQueue<Hit> best = new PriorityQueue<>(window + 1, RANKING.reversed());
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            final RoaringBitmap candidates = candidates(needle);
+            candidates.and(filter);
+            final IntIterator iterator = candidates.getIntIterator();
+            while (iterator.hasNext()) {
+                final int taskId = iterator.next();
+                final String title = titles.get(taskId);
+                final int position = title == null ? -1 : title.indexOf(needle);
+                if (position < 0) {
+                    continue;
+                }
+                total++;
+                best.add(new Hit(taskId, rank(title, needle, position), position, title.length()));
+                if (best.size() > window) {
+                    best.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        final List<Hit> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        final List<Long> ids = new ArrayList<>(limit);
+        for (int i = offset; i < ranked.size(); i++) {
+            ids.add((long) ranked.get(i).taskId());
+        }
+        return new SearchResult(ids, total);
+    }
+
+    /**
+     * Intersects the bitmaps of the query trigrams, smallest first.
+     */
+    private RoaringBitmap candidates(final String needle) {
+        final List<RoaringBitmap> bitmaps = new ArrayList<>();
+        for (int i = 0; i + MIN_QUERY_LENGTH <= needle.length(); i++) {
+            final RoaringBitmap tasks = tasksByTrigram.get(trigram(needle, i));
+            if (tasks == null) {
+                return new RoaringBitmap();
+            }
+            bitmaps.add(tasks);
+        }
+        bitmaps.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+        return bitmaps.size() == 1 ? bitmaps.get(0).clone() : FastAggregation.and(bitmaps.iterator());
+    }
+
+    private void add(final int taskId, final String tittle) {
+        if (tittle == null) {
+            return;
+        }
+        final String title = normalize(tittle);
+        titles.put(taskId, title);
+        for (int i = 0; i + MIN_QUERY_LENGTH <= title.length(); i++) {
+            tasksByTrigram.computeIfAbsent(trigram(title, i), key -> new RoaringBitmap()).add(taskId);
+        }
+    }
+
+    private void remove(final int taskId) {
+        final String title = titles.remove(taskId);
+        if (title == null) {
+            return;
+        }
+        for (int i = 0; i + MIN_QUERY_LENGTH <= title.length(); i++) {
+            final long key = trigram(title, i);
+            final RoaringBitmap tasks = tasksByTrigram.get(key);
+            if (tasks != null) {
+                tasks.remove(taskId);
+                if (tasks.isEmpty()) {
+                    tasksByTrigram.remove(key);
+                }
+            }
+        }
+    }
+
+    private int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return tasksByTrigram.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int rank(final String title, final String needle, final int position) {
+        if (position == 0) {
+            return title.length() == needle.length() ? 0 : 1;
+        }
+        return Character.isLetterOrDigit(title.charAt(position - 1)) ? 3 : 2;
+    }
+
+    /**
+     * Packs the three characters starting at {@code index} into one key.
+     */
+    private static long trigram(final String text, final int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    static String normalize(final String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static int toInt(final long taskId) {
+        if (taskId < 0 || taskId > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Task id " + taskId + " does not fit in the title index");
+        }
+        return (int) taskId;
+    }
+
+    /**
+     * One page of ranked matches.
+     *
+     * @param taskIds The task ids of the page, best match first.
+     * @param total   The number of tasks matching the query and the filter.
+     */
+    public record SearchResult(List<Long> taskIds, long total) {
+    }
+
+    private record Hit(int taskId, int rank, int position, int length) {
+    }
+}
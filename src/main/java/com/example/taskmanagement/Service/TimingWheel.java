@@ -0,0 +1,278 @@
+package com.example.taskmanagement.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: timers are kept in buckets of ticks, so that
+ * scheduling and cancelling a timer is O(1) however many are pending, and
+ * advancing the clock only visits the buckets whose time has come.
+ *
+ * <p>Level 0 has {@code wheelSize} buckets of one tick each. Every further
+ * level has buckets {@code wheelSize} times wider than the level below, and
+ * levels are added when a timer is scheduled beyond the span of the existing
+ * ones. When the clock enters a bucket of an upper level, its timers are
+ * cascaded into the lower levels. A timer fires at the end of the tick that
+ * contains its deadline, so it is late by at most one tick plus however late
+ * {@link #advance} is called.</p>
+ *
+ * <p>Not thread-safe: callers synchronize.</p>
+ *
+ * @param <T> The type of the payload of the timers.
+ */
+public final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Bucket<T>[]> levels = new ArrayList<>();
+    /** Timers scheduled with a deadline before the current tick, fired by the next advance. */
+    private final Bucket<T> expired = new Bucket<>();
+    /** Start of the current tick, in epoch milliseconds. */
+    private long currentTime;
+    private int size;
+
+    /**
+     * @param tickMillis The length of a level 0 bucket.
+     * @param wheelSize  The number of buckets of every level.
+     * @param startTime  The current time, in epoch milliseconds.
+     */
+    public TimingWheel(final long tickMillis, final int wheelSize, final long startTime) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startTime - Math.floorMod(startTime, tickMillis);
+        addLevel();
+    }
+
+    /**
+     * Schedules a timer.
+     *
+     * @param deadline When the timer is due, in epoch milliseconds. A deadline
+     *                 in the past fires on the next {@link #advance}.
+     * @param payload  The value handed back when the timer fires.
+     * @return The timer, to cancel it.
+     */
+    public Timer<T> schedule(final long deadline, final T payload) {
+        final Timer<T> timer = new Timer<>(deadline, payload);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels a pending timer.
+     *
+     * @return False when the timer has already fired or been cancelled.
+     */
+    public boolean cancel(final Timer<T> timer) {
+        if (timer.bucket == null) {
+            return false;
+        }
+        timer.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the clock forward and fires the timers whose tick has ended, in
+     * tick order.
+     *
+     * @param now     The current time, in epoch milliseconds. Moving the
+     *                clock backwards does nothing.
+     * @param onFired Called for every timer that fires.
+     * @return The number of timers fired.
+     */
+    public int advance(final long now, final Consumer<Timer<T>> onFired) {
+        int fired = fire(expired, onFired);
+        while (currentTime + tickMillis <= now) {
+            fired += fire(levels.get(0)[slot(currentTime, tickMillis)], onFired);
+            currentTime += tickMillis;
+            cascade();
+        }
+        return fired;
+    }
+
+    /**
+     * @return The number of pending timers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The start of the current tick, in epoch milliseconds.
+     */
+    public long currentTime() {
+        return currentTime;
+    }
+
+    /**
+     * Puts a timer in the lowest level whose span reaches its deadline. An
+     * upper level never gets a timer of its current bucket: that bucket has
+     * already been cascaded, and the level below spans all of it.
+     */
+    private void place(final Timer<T> timer) {
+        if (timer.deadline < currentTime) {
+            expired.append(timer);
+            return;
+        }
+        long levelTick = tickMillis;
+        for (int level = 0; ; level++) {
+            if (level == levels.size()) {
+                addLevel();
+            }
+            if (Math.floorDiv(timer.deadline, levelTick) - Math.floorDiv(currentTime, levelTick) < wheelSize) {
+                levels.get(level)[slot(timer.deadline, levelTick)].append(timer);
+                return;
+            }
+            if (levelTick > Long.MAX_VALUE / wheelSize) {
+                throw new IllegalArgumentException("Deadline " + timer.deadline + " is out of range");
+            }
+            levelTick *= wheelSize;
+        }
+    }
+
+    /**
+     * Re-places the timers of the upper level buckets the clock has just
+     * entered, from the top level down.
+     */
+    private void cascade() {
+        long levelTick = tickMillis;
+        int aligned = 0;
+        while (aligned + 1 < levels.size() && Math.floorMod(currentTime, levelTick * wheelSize) == 0) {
+            levelTick *= wheelSize;
+            aligned++;
+        }
+        for (int level = aligned; level > 0; level--) {
+            final Bucket<T> bucket = levels.get(level)[slot(currentTime, levelTick)];
+            Timer<T> timer = bucket.detachAll();
+            while (timer != null) {
+                final Timer<T> next = timer.next;
+                timer.next = null;
+                timer.prev = null;
+                place(timer);
+                timer = next;
+            }
+            levelTick /= wheelSize;
+        }
+    }
+
+    private int fire(final Bucket<T> bucket, final Consumer<Timer<T>> onFired) {
+        int fired = 0;
+        Timer<T> timer = bucket.detachAll();
+        while (timer != null) {
+            final Timer<T> next = timer.next;
+            timer.next = null;
+            timer.prev = null;
+            size--;
+            fired++;
+            onFired.accept(timer);
+            timer = next;
+        }
+        return fired;
+    }
+
+    private int slot(final long time, final long levelTick) {
+        return (int) Math.floorMod(Math.floorDiv(time, levelTick), (long) wheelSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addLevel() {
+        final Bucket<T>[] buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        levels.add(buckets);
+    }
+
+    /**
+     * A scheduled timer, linked into the bucket of its deadline.
+     *
+     * @param <T> The type of the payload.
+     */
+    public static final class Timer<T> {
+
+        private final long deadline;
+        private final T payload;
+        private Bucket<T> bucket;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(final long deadline, final T payload) {
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+
+        /**
+         * @return When the timer is due, in epoch milliseconds.
+         */
+        public long deadline() {
+            return deadline;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        /**
+         * @return True while the timer has neither fired nor been cancelled.
+         */
+        public boolean isPending() {
+            return bucket != null;
+        }
+
+        private void unlink() {
+            if (prev == null) {
+                bucket.head = next;
+            } else {
+                prev.next = next;
+            }
+            if (next == null) {
+                bucket.tail = prev;
+            } else {
+                next.prev = prev;
+            }
+            bucket = null;
+            prev = null;
+            next = null;
+        }
+    }
+
+    /**
+     * Doubly linked list of the timers of one bucket.
+     */
+    private static final class Bucket<T> {
+
+        private Timer<T> head;
+        private Timer<T> tail;
+
+        void append(final Timer<T> timer) {
+            timer.bucket = this;
+            timer.prev = tail;
+            timer.next = null;
+            if (tail == null) {
+                head = timer;
+            } else {
+                tail.next = timer;
+            }
+            tail = timer;
+        }
+
+        /**
+         * Empties the bucket and returns its first timer; the rest still
+         * follow through {@code next}.
+         */
+        Timer<T> detachAll() {
+            final Timer<T> first = head;
+            for (Timer<T> timer = first; timer != null; timer = timer.next) {
+                timer.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.taskmanagement.Service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import com.example.taskmanagement.DTO.DueReminderDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * POSTs every reminder as JSON to {@code reminders.webhook.url}. The request
+ * is sent asynchronously and not retried; failures are logged and counted in
+ * {@code reminders.webhook.failures}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reminders.sink", havingValue = "webhook")
+public class WebhookReminderSink implements ReminderSink {
+
+    private final ObjectMapper objectMapper;
+    private final URI url;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final Counter failureCounter;
+
+    public WebhookReminderSink(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${reminders.webhook.url}") String url,
+                               @Value("${reminders.webhook.timeout:5s}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.url = URI.create(url);
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.failureCounter = Counter.builder("reminders.webhook.failures")
+                .description("Reminders the webhook did not accept")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(final DueReminderDTO reminder) {
+        final String body;
+        try {
+            body = objectMapper.writeValueAsString(reminder);
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize reminder {}", reminder, e);
+            failureCounter.increment();
+            return;
+        }
+        final HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            if (error != null || response.statusCode() >= 300) {
+                failureCounter.increment();
+                log.warn("Webhook did not accept the reminder of task {}: {}", reminder.taskId(),
+                        error != null ? error.toString() : "status " + response.statusCode());
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.taskmanagement.configuration;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import com.example.taskmanagement.Service.AuthTokenService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Authenticates requests that carry an {@code Authorization: Bearer} token
+ * issued by {@link AuthTokenService}.
+ *
+ * <p>Requests without a bearer token pass through untouched, so HTTP Basic
+ * keeps working. An invalid or expired token leaves the request
+ * unauthenticated and the entry point answers 401. The user is looked up on
+ * each request, so a removed or disabled user loses access before the token
+ * expires.</p>
+ */
+public class BearerTokenFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = AuthTokenService.TOKEN_TYPE + " ";
+
+    private final AuthTokenService authTokenService;
+    private final UserDetailsService userDetailsService;
+
+    public BearerTokenFilter(AuthTokenService authTokenService, UserDetailsService userDetailsService) {
+        this.authTokenService = authTokenService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, PREFIX, 0, PREFIX.length())) {
+            final Optional<String> username = authTokenService.verify(header.substring(PREFIX.length()).trim());
+            username.flatMap(this::loadUser)
+                    .filter(user -> user.isEnabled() && user.isAccountNonLocked() && user.isAccountNonExpired())
+                    .ifPresent(user -> {
+                        final SecurityContext context = SecurityContextHolder.createEmptyContext();
+                        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                                user.getUsername(), null, user.getAuthorities()));
+                        SecurityContextHolder.setContext(context);
+                    });
+        }
+        chain.doFilter(request, response);
+    }
+
+    private Optional<UserDetails> loadUser(String username) {
+        try {
+            return Optional.of(userDetailsService.loadUserByUsername(username));
+        } catch (UsernameNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+}
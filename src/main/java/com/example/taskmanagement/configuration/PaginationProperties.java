@@ -0,0 +1,43 @@
+package com.example.taskmanagement.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Page size limits applied to list endpoints.
+ *
+ * <p>Clients may ask for any page size, but it is always clamped to
+ * {@code maxSize} so that a single request cannot load an unbounded
+ * number of rows.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "pagination")
+public class PaginationProperties {
+
+    /**
+     * Page size used when the client does not send a limit.
+     */
+    private int defaultSize = 50;
+
+    /**
+     * Largest page size the server will return.
+     */
+    private int maxSize = 500;
+
+    /**
+     * Resolves the effective page size for a requested limit.
+     *
+     * @param requested The limit sent by the client, may be null.
+     * @return The requested limit clamped to {@code [1, maxSize]}, or the default size when none was sent.
+     */
+    public int resolve(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        return Math.max(1, Math.min(requested, maxSize));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.taskmanagement.configuration;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import com.example.taskmanagement.Model.Tag;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the local Caffeine JCache regions behind Hibernate's
+ * second-level and query caches.
+ *
+ * <p>The Tag entity and query result regions are bounded by
+ * {@code tags.second-level-cache.max-size} entries and expire
+ * {@code tags.second-level-cache.ttl} after being written. The update
+ * timestamps region is neither bounded nor expired, because losing a
+ * timestamp could let a stale query result be served; it holds one entry per
+ * table. Hit and miss counts of every region are published as the
+ * {@code cache.gets} metrics, next to the Hibernate statistics.</p>
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final List<String> BOUNDED_REGIONS = List.of(
+            Tag.CACHE_REGION,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    /**
+     * Creates the cache manager and its regions. Each application context gets
+     * its own manager, so contexts sharing a JVM (as in tests) do not collide.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${tags.second-level-cache.max-size:10000}") long maxSize,
+                                              @Value("${tags.second-level-cache.ttl:10m}") Duration ttl,
+                                              MeterRegistry meterRegistry) {
+        final CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:task-tags:hibernate:" + System.identityHashCode(this)),
+                        getClass().getClassLoader());
+
+        for (final String region : BOUNDED_REGIONS) {
+            final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(region, configuration));
+        }
+
+        final CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(
+                RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps));
+        return cacheManager;
+    }
+
+    /**
+     * Hands the cache manager to Hibernate instead of letting it create one.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
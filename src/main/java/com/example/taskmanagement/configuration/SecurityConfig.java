@@ -1,7 +1,9 @@
 package com.example.taskmanagement.configuration;
 
+import com.example.taskmanagement.Service.AuthTokenService;
 import com.example.taskmanagement.response.ResponseHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +21,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -30,24 +33,37 @@ public class SecurityConfig implements WebMvcConfigurer {
  * Configures Spring Security for the application.
  *
  * @param http The HttpSecurity object to configure security settings.
+ * @param authTokenService The service verifying bearer tokens.
  * @return A SecurityFilterChain object representing the configured security settings.
  * @throws Exception If an error occurs during security configuration.
  */
 @Bean
-public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthTokenService authTokenService) throws Exception {
     // Disable CSRF protection
     http.csrf(AbstractHttpConfigurer::disable)
             // Define access control rules
             .authorizeHttpRequests(auth -> auth
+                    // Async dispatches continue a request that was already authorized (event streams, exports)
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     // Require authentication for /tasks and /tags endpoints
                     .requestMatchers("/tasks", "/tags").authenticated()
                     // Require authentication for /tasks/** and /tags/** endpoints
                     .requestMatchers("/tasks/**", "/tags/**").authenticated()
+                    // Token login requires HTTP Basic credentials
+                    .requestMatchers("/auth/**").authenticated()
+                    // Change feed
+                    .requestMatchers("/events").authenticated()
+                    // Health stays public, every other actuator endpoint (metrics) requires authentication
+                    .requestMatchers("/actuator/health").permitAll()
+                    .requestMatchers("/actuator/**").authenticated()
                     // Allow access to all other requests
                     .anyRequest().permitAll()
             )
             // Enable HTTP Basic authentication
-            .httpBasic(Customizer.withDefaults());
+            .httpBasic(Customizer.withDefaults())
+            // Accept bearer tokens from /auth/login, which skip the BCrypt check of HTTP Basic
+            .addFilterBefore(new BearerTokenFilter(authTokenService, userDetailsService()),
+                    BasicAuthenticationFilter.class);
 
     // Build and return the SecurityFilterChain
     return http.build();
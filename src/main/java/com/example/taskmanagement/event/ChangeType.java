@@ -0,0 +1,10 @@
+package com.example.taskmanagement.event;
+
+/**
+ * Kind of write carried by a change event.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
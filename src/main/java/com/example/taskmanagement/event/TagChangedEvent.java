@@ -0,0 +1,16 @@
+package com.example.taskmanagement.event;
+
+/**
+ * Published by {@code TagService} when a tag row changes. Listeners should use
+ * {@code @TransactionalEventListener} so that they only see committed writes.
+ *
+ * @param type  The kind of write.
+ * @param tagId The id of the tag.
+ * @param name  The name of the tag after the write, or before it for a
+ *              deleted tag.
+ */
+public record TagChangedEvent(
+        ChangeType type,
+        long tagId,
+        String name) {
+}
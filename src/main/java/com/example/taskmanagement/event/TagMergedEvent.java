@@ -0,0 +1,21 @@
+package com.example.taskmanagement.event;
+
+/**
+ * Published by {@code TagMaintenanceService} when every task of one tag was
+ * moved to another tag and the source tag was deleted. Listeners should use
+ * {@code @TransactionalEventListener} so that they only see committed writes.
+ *
+ * @param sourceTagId     The id of the deleted tag.
+ * @param sourceName      The name of the deleted tag.
+ * @param targetTagId     The id of the tag that received the tasks.
+ * @param targetName      The name of the tag that received the tasks.
+ * @param targetTaskCount The number of tasks carrying the target tag after
+ *                        the merge.
+ */
+public record TagMergedEvent(
+        long sourceTagId,
+        String sourceName,
+        long targetTagId,
+        String targetName,
+        long targetTaskCount) {
+}
@@ -0,0 +1,30 @@
+package com.example.taskmanagement.event;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Published by {@code TaskService} for every task it creates, updates or
+ * deletes. Listeners should use {@code @TransactionalEventListener} so that
+ * they only see committed writes.
+ *
+ * @param type           The kind of write.
+ * @param taskId         The id of the task.
+ * @param tittle         The title after the write.
+ * @param completed      The completion status after the write.
+ * @param dueDate        The due date after the write, or null when the task
+ *                       has none.
+ * @param tagIds         The ids of the tags after the write, empty for a
+ *                       deleted task.
+ * @param previousTagIds The ids of the tags before the write, empty for a
+ *                       new task.
+ */
+public record TaskChangedEvent(
+        ChangeType type,
+        long taskId,
+        String tittle,
+        boolean completed,
+        LocalDate dueDate,
+        Set<Long> tagIds,
+        Set<Long> previousTagIds) {
+}
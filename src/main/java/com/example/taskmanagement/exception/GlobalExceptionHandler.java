@@ -7,8 +7,12 @@ import com.example.taskmanagement.exception.types.ValidationException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -120,6 +124,55 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handles a write that lost an optimistic lock race with a concurrent write
+     * to the same entity.
+     *
+     * @param ex The OptimisticLockingFailureException that occurred.
+     * @param request The HttpServletRequest object representing the current request.
+     * @return A ResponseEntity containing the custom error response and a HTTP status code of 409 (Conflict).
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.createErrorResponse(
+                HttpStatus.CONFLICT,
+                "Concurrent Modification",
+                "The resource was modified by another request, please retry",
+                request
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles a request that could not get a database connection within the pool's
+     * connection timeout. The pool size is the admission limit for database work, so
+     * this is load shedding rather than a server error.
+     *
+     * @param ex The exception raised when no connection was available.
+     * @param request The HttpServletRequest object representing the current request.
+     * @return A ResponseEntity containing the custom error response and a HTTP status code of 503 (Service Unavailable).
+     */
+    @ExceptionHandler({CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailable(
+            Exception ex,
+            HttpServletRequest request
+    ) {
+        log.warn("No database connection available: {}", ex.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.createErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Service Unavailable",
+                "The server is busy, please retry",
+                request
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     /**
      * Handles UnauthorizedAccessException and provides a custom error response.
      *
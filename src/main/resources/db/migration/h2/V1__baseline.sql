@@ -0,0 +1,36 @@
+-- Same schema as db/migration/mysql/V1__baseline.sql for the embedded
+-- database used by the tests.
+
+CREATE TABLE tasks (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    tittle VARCHAR(255),
+    completed BOOLEAN NOT NULL,
+    due_date DATE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tags (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    date_created DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tags_name UNIQUE (name)
+);
+
+CREATE TABLE task_tag (
+    task_id BIGINT NOT NULL,
+    tag_id BIGINT NOT NULL,
+    PRIMARY KEY (task_id, tag_id),
+    CONSTRAINT fk_task_tag_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_task_tag_tag FOREIGN KEY (tag_id) REFERENCES tags (id)
+);
+
+CREATE TABLE audit_log (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    entity_name VARCHAR(255),
+    action VARCHAR(255),
+    username VARCHAR(255),
+    details VARCHAR(255),
+    timestamp TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
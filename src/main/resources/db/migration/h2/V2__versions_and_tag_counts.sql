@@ -0,0 +1,9 @@
+-- Same columns and backfill as db/migration/mysql/V2__versions_and_tag_counts.sql.
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE tags ADD COLUMN task_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE tags ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+UPDATE tags
+SET task_count = (SELECT COUNT(*) FROM task_tag WHERE task_tag.tag_id = tags.id);
@@ -0,0 +1,6 @@
+-- Same starting point as db/migration/mysql/V3__task_sequence.sql, on a
+-- native sequence.
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE tasks_seq RESTART WITH
+    (SELECT CASE WHEN MAX(id) IS NULL THEN 1 ELSE MAX(id) + 50 + 1 END FROM tasks);
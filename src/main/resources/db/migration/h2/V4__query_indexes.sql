@@ -0,0 +1,12 @@
+-- Same indexes as db/migration/mysql/V4__query_indexes.sql, checked with
+-- EXPLAIN by SchemaIndexTest.
+
+CREATE INDEX idx_tasks_completed_id ON tasks (completed, id);
+
+CREATE INDEX idx_tasks_due_date_id ON tasks (due_date, id);
+
+CREATE INDEX idx_tags_date_created ON tags (date_created);
+
+CREATE INDEX idx_tags_task_count_id ON tags (task_count, id);
+
+CREATE INDEX idx_task_tag_tag_task ON task_tag (tag_id, task_id);
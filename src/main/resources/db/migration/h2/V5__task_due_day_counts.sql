@@ -0,0 +1,15 @@
+-- Same table and index as db/migration/mysql/V5__task_due_day_counts.sql.
+CREATE TABLE task_due_day_counts (
+    due_day DATE NOT NULL,
+    task_count BIGINT NOT NULL,
+    open_count BIGINT NOT NULL,
+    PRIMARY KEY (due_day)
+);
+
+INSERT INTO task_due_day_counts (due_day, task_count, open_count)
+SELECT due_date, COUNT(*), SUM(CASE WHEN completed = FALSE THEN 1 ELSE 0 END)
+FROM tasks
+WHERE due_date IS NOT NULL
+GROUP BY due_date;
+
+CREATE INDEX idx_tasks_completed_due_date_id ON tasks (completed, due_date, id);
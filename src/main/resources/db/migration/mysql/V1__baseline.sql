@@ -0,0 +1,38 @@
+-- Schema as created by Hibernate (ddl-auto=update) before migrations took
+-- over. Existing databases are baselined at this version and skip it, so it
+-- must stay exactly that schema: every later change goes into a migration
+-- that also upgrades the rows already there.
+
+CREATE TABLE tasks (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    tittle VARCHAR(255),
+    completed BIT NOT NULL,
+    due_date DATE,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tags (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    date_created DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tags_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE task_tag (
+    task_id BIGINT NOT NULL,
+    tag_id BIGINT NOT NULL,
+    PRIMARY KEY (task_id, tag_id),
+    CONSTRAINT fk_task_tag_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_task_tag_tag FOREIGN KEY (tag_id) REFERENCES tags (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE audit_log (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    entity_name VARCHAR(255),
+    action VARCHAR(255),
+    username VARCHAR(255),
+    details VARCHAR(255),
+    timestamp DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
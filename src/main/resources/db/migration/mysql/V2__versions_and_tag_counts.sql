@@ -0,0 +1,11 @@
+-- Optimistic locking versions on tasks and tags, and the per-tag task
+-- counter. Existing rows start at version 0 and get the number of links
+-- they have in task_tag.
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE tags
+    ADD COLUMN task_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+UPDATE tags t
+SET t.task_count = (SELECT COUNT(*) FROM task_tag tt WHERE tt.tag_id = t.id);
@@ -0,0 +1,13 @@
+-- Task ids used to come from AUTO_INCREMENT and now come from tasks_seq,
+-- which Hibernate emulates with a one-row table on MySQL. The column keeps
+-- AUTO_INCREMENT, unused since every insert sends its id: removing it would
+-- mean rebuilding the table and the foreign key of task_tag.
+CREATE TABLE tasks_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+-- Start past the ids in use, plus one allocation block
+-- (Task.TASK_ID_ALLOCATION_SIZE = 50) because the pooled optimizer treats
+-- the stored value as the upper bound of the next block.
+INSERT INTO tasks_seq (next_val)
+SELECT CASE WHEN MAX(id) IS NULL THEN 1 ELSE MAX(id) + 50 + 1 END FROM tasks;
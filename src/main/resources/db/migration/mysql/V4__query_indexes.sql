@@ -0,0 +1,21 @@
+-- Indexes for the repository filters. InnoDB appends the primary key to every
+-- secondary index, so (completed, id) and friends also serve the keyset
+-- pagination by id without a sort.
+
+-- findIdPageByCompletedAfter, findAllByCompleted, streamAllByCompleted
+CREATE INDEX idx_tasks_completed_id ON tasks (completed, id);
+
+-- Due date filters and ordering
+CREATE INDEX idx_tasks_due_date_id ON tasks (due_date, id);
+
+-- findTagsByDateCreated
+CREATE INDEX idx_tags_date_created ON tags (date_created);
+
+-- findTagStatistics sorted by count
+CREATE INDEX idx_tags_task_count_id ON tags (task_count, id);
+
+-- countTasksByTagId, findTaskIdsByTagId and the tag maintenance chunks read
+-- task_tag by tag; the primary key only serves lookups by task. This index
+-- also covers the foreign key on tag_id, so MySQL drops the one it created
+-- for that key.
+CREATE INDEX idx_task_tag_tag_task ON task_tag (tag_id, task_id);
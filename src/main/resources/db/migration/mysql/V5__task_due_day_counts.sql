@@ -0,0 +1,18 @@
+-- Number of tasks, and of incomplete tasks, per due date for calendar views.
+-- Maintained by TaskService in the same transaction as the task writes and
+-- repaired by DueDayCountReconciler.
+CREATE TABLE task_due_day_counts (
+    due_day DATE NOT NULL,
+    task_count BIGINT NOT NULL,
+    open_count BIGINT NOT NULL,
+    PRIMARY KEY (due_day)
+) ENGINE = InnoDB;
+
+INSERT INTO task_due_day_counts (due_day, task_count, open_count)
+SELECT due_date, COUNT(*), SUM(CASE WHEN completed = FALSE THEN 1 ELSE 0 END)
+FROM tasks
+WHERE due_date IS NOT NULL
+GROUP BY due_date;
+
+-- Overdue tasks: incomplete with a due date before today, in due date order
+CREATE INDEX idx_tasks_completed_due_date_id ON tasks (completed, due_date, id);
@@ -0,0 +1,139 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.taskmanagement.Service.AuditLogService;
+import com.example.taskmanagement.Service.AuditLogService.OverflowPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Checks the write-behind queue of {@link AuditLogService}: batched background
+ * writes, the three overflow policies on a full queue, and the flush of
+ * pending events at shutdown. The overflow tests leave the writer stopped so
+ * that the queue stays full.
+ */
+class AuditLogServiceTest {
+
+    private static final int CAPACITY = 2;
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:audit-log;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<AuditLogService> services = new ArrayList<>();
+
+    @BeforeEach
+    void createTable() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE audit_log (id BIGINT NOT NULL AUTO_INCREMENT, entity_name VARCHAR(255), "
+                + "action VARCHAR(255), username VARCHAR(255), details VARCHAR(255), timestamp TIMESTAMP(6), "
+                + "PRIMARY KEY (id))");
+    }
+
+    @AfterEach
+    void shutdownServices() {
+        services.forEach(AuditLogService::shutdown);
+    }
+
+    @Test
+    void writerFlushesQueuedEventsInBatches() throws InterruptedException {
+        final AuditLogService service = service(100, OverflowPolicy.BLOCK, 2, 50);
+        service.start();
+
+        for (int i = 0; i < 5; i++) {
+            service.log("Task", "CREATE", "username", "event " + i);
+        }
+
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (details().size() < 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(details()).containsExactly("event 0", "event 1", "event 2", "event 3", "event 4");
+    }
+
+    @Test
+    void blockWaitsForTheWriterWhenTheQueueIsFull() throws InterruptedException {
+        final AuditLogService service = service(CAPACITY, OverflowPolicy.BLOCK, 10, 50);
+        service.log("Task", "CREATE", "username", "a");
+        service.log("Task", "CREATE", "username", "b");
+
+        final Thread caller = new Thread(() -> service.log("Task", "CREATE", "username", "c"));
+        caller.start();
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (caller.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(caller.getState()).isEqualTo(Thread.State.WAITING);
+        assertThat(details()).isEmpty();
+
+        service.start();
+        caller.join(5_000);
+        assertThat(caller.isAlive()).isFalse();
+
+        service.shutdown();
+        assertThat(details()).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void dropOldestDiscardsTheOldestQueuedEvent() {
+        final AuditLogService service = service(CAPACITY, OverflowPolicy.DROP_OLDEST, 10, 50);
+        service.log("Task", "CREATE", "username", "a");
+        service.log("Task", "CREATE", "username", "b");
+        service.log("Task", "CREATE", "username", "c");
+
+        assertThat(details()).isEmpty();
+        assertThat(meterRegistry.get("audit.dropped").counter().count()).isEqualTo(1);
+
+        service.shutdown();
+        assertThat(details()).containsExactly("b", "c");
+    }
+
+    @Test
+    void syncWritesOnTheCallerWhenTheQueueIsFull() {
+        final AuditLogService service = service(CAPACITY, OverflowPolicy.SYNC, 10, 50);
+        service.log("Task", "CREATE", "username", "a");
+        service.log("Task", "CREATE", "username", "b");
+        service.log("Task", "CREATE", "username", "c");
+
+        assertThat(details()).containsExactly("c");
+
+        service.shutdown();
+        assertThat(details()).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void shutdownFlushesPendingEventsAndLaterEventsAreWrittenDirectly() {
+        // Neither the batch size nor the flush interval is reached before shutdown
+        final AuditLogService service = service(100, OverflowPolicy.BLOCK, 100, 2_000);
+        service.start();
+        service.log("Task", "CREATE", "username", "a");
+        service.log("Task", "CREATE", "username", "b");
+        assertThat(details()).isEmpty();
+
+        service.shutdown();
+        assertThat(details()).containsExactly("a", "b");
+
+        service.log("Task", "CREATE", "username", "after shutdown");
+        assertThat(details()).containsExactly("a", "b", "after shutdown");
+    }
+
+    private AuditLogService service(final int capacity, final OverflowPolicy policy, final int batchSize,
+                                    final long flushIntervalMillis) {
+        final AuditLogService service =
+                new AuditLogService(jdbcTemplate, meterRegistry, capacity, batchSize, flushIntervalMillis, policy);
+        services.add(service);
+        return service;
+    }
+
+    private List<String> details() {
+        return jdbcTemplate.queryForList("SELECT details FROM audit_log ORDER BY id", String.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+/**
+ * Compares the request rate of HTTP Basic, which runs BCrypt on every
+ * request, with bearer tokens from {@code POST /auth/login} on the same
+ * in-memory endpoint.
+ *
+ * <p>A benchmark: the rates depend on the machine, so they are logged rather
+ * than asserted and it only runs with {@code mvn test -Pbenchmark}.
+ * {@code AuthTokenTest} checks in the default suite that bearer requests
+ * skip the password check.</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthTokenBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthTokenBenchmarkTest.class);
+
+    private static final int WARM_UP_REQUESTS = 20;
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void bearerTokensAgainstBasic() throws Exception {
+        final String token = login();
+        final double basic = requestsPerSecond(get("/tags/suggest").with(httpBasic("username", "password")));
+        final double bearer = requestsPerSecond(
+                get("/tags/suggest").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+
+        log.info("HTTP Basic: {} requests/s, bearer token: {} requests/s ({}x)", Math.round(basic),
+                Math.round(bearer), Math.round(bearer / basic * 10) / 10.0);
+    }
+
+    private String login() throws Exception {
+        final String body = mockMvc.perform(post("/auth/login").with(httpBasic("username", "password")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data").path("token").asText();
+    }
+
+    private double requestsPerSecond(final RequestBuilder request) throws Exception {
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        return REQUESTS * 1e9 / (System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+
+import com.example.taskmanagement.Service.AuthTokenService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Checks the bearer token login, the rejection of tampered and expired
+ * tokens, and that bearer requests do not run the BCrypt check that HTTP
+ * Basic runs on every request. The request rates of both are compared by
+ * AuthTokenBenchmarkTest.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthTokenTest {
+
+    private static final String SECRET = "test-secret-for-token-signing";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void loginIssuesTokenThatAuthenticatesRequests() throws Exception {
+        final String token = login();
+
+        mockMvc.perform(get("/tags/suggest").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/tags/suggest").header(HttpHeaders.AUTHORIZATION, "Bearer " + token + "x"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/tags/suggest").header(HttpHeaders.AUTHORIZATION, "Bearer garbage"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/auth/login").with(httpBasic("username", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void expiredTokenIsRejected() throws Exception {
+        // Signed with the test secret, so only the expiry is wrong
+        final AuthTokenService expiredIssuer = new AuthTokenService(SECRET, Duration.ofSeconds(-1));
+        final String token = expiredIssuer.issue("username").getToken();
+
+        mockMvc.perform(get("/tags/suggest").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void bearerRequestsSkipThePasswordCheck() throws Exception {
+        final String token = login();
+        clearInvocations(passwordEncoder);
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/tags/suggest").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+        verify(passwordEncoder, never()).matches(any(), any());
+
+        // HTTP Basic runs it on every request
+        mockMvc.perform(get("/tags/suggest").with(httpBasic("username", "password"))).andExpect(status().isOk());
+        verify(passwordEncoder, times(1)).matches(any(), any());
+    }
+
+    private String login() throws Exception {
+        final String body = mockMvc.perform(post("/auth/login").with(httpBasic("username", "password")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tokenType").value("Bearer"))
+                .andReturn().getResponse().getContentAsString();
+        final JsonNode response = objectMapper.readTree(body);
+        return response.path("data").path("token").asText();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.example.taskmanagement.Service.ChangeFeed;
+import com.example.taskmanagement.event.ChangeType;
+import com.example.taskmanagement.event.TagChangedEvent;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Checks delivery, Last-Event-ID replay and disconnection of slow consumers
+ * of the change feed.
+ */
+class ChangeFeedTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChangeFeed feed = new ChangeFeed(new ObjectMapper(), meterRegistry, Duration.ofMinutes(1),
+            BUFFER_SIZE, 8, 2, false);
+
+    @Test
+    void deliversEventsAndReplaysFromLastEventId() throws Exception {
+        final CapturingEmitter first = new CapturingEmitter();
+        feed.subscribe(first, null);
+        publishTask(1);
+        final String firstEvent = first.next();
+        publishTask(2);
+        feed.onTagChanged(new TagChangedEvent(ChangeType.DELETED, 7, "old"));
+
+        assertThat(firstEvent).contains("event:task").contains("\"id\":1").contains("\"type\":\"CREATED\"");
+        assertThat(first.next()).contains("\"id\":2");
+        assertThat(first.next()).contains("event:tag").contains("\"name\":\"old\"");
+
+        final CapturingEmitter resumed = new CapturingEmitter();
+        feed.subscribe(resumed, eventId(firstEvent));
+        assertThat(resumed.next()).contains("\"id\":2");
+        assertThat(resumed.next()).contains("event:tag");
+        assertThat(resumed.events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void sendsResetWhenEventsCannotBeReplayed() throws Exception {
+        final CapturingEmitter fromEarlierRun = new CapturingEmitter();
+        feed.subscribe(fromEarlierRun, "otherboot-3");
+        assertThat(fromEarlierRun.next()).contains("event:reset");
+
+        final CapturingEmitter first = new CapturingEmitter();
+        feed.subscribe(first, null);
+        publishTask(1);
+        final String firstId = eventId(first.next());
+        for (int i = 2; i <= BUFFER_SIZE + 2; i++) {
+            publishTask(i);
+            first.next();
+        }
+        final CapturingEmitter tooFarBehind = new CapturingEmitter();
+        feed.subscribe(tooFarBehind, firstId);
+        assertThat(tooFarBehind.next()).contains("event:reset");
+    }
+
+    @Test
+    void disconnectsSlowConsumers() throws Exception {
+        final CapturingEmitter slow = new CapturingEmitter();
+        slow.gate = new CountDownLatch(1);
+        final CapturingEmitter fast = new CapturingEmitter();
+        feed.subscribe(slow, null);
+        feed.subscribe(fast, null);
+
+        for (int i = 1; i <= BUFFER_SIZE + 2; i++) {
+            publishTask(i);
+            assertThat(fast.next()).contains("\"id\":" + i);
+        }
+        slow.gate.countDown();
+
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.completed.getCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("events.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("events.subscribers").gauge().value()).isEqualTo(1);
+    }
+
+    private void publishTask(final long id) {
+        feed.onTaskChanged(new TaskChangedEvent(ChangeType.CREATED, id, "task " + id, false, null, Set.of(1L), Set.of()));
+    }
+
+    private static String eventId(final String event) {
+        final int start = event.indexOf("id:") + 3;
+        return event.substring(start, event.indexOf('\n', start));
+    }
+
+    /**
+     * Records the text of every event instead of writing it to a response.
+     */
+    private static final class CapturingEmitter extends SseEmitter {
+
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+
+        @Override
+        public void send(final SseEventBuilder builder) throws IOException {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            final StringBuilder text = new StringBuilder();
+            builder.build().forEach(data -> text.append(data.getData()));
+            events.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        String next() throws InterruptedException {
+            final String event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).isNotNull();
+            return event;
+        }
+    }
+}
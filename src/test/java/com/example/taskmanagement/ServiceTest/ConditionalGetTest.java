@@ -0,0 +1,84 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Service.TaskService;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Checks that the task and tag reads answer a current If-None-Match with 304
+ * and hand out a new ETag after a committed write.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void readsAreNotModifiedUntilAWriteCommits() throws Exception {
+        final Task task = taskService.createTask(newTask("etag", "etag-a"));
+        final long tagId = task.getTags().iterator().next().getId();
+
+        final String tasks = eTag("/tasks");
+        final String tags = eTag("/tags");
+        final String tag = eTag("/tags/" + tagId);
+        notModified("/tasks", tasks);
+        notModified("/tags", tags);
+        notModified("/tags/" + tagId, tag);
+
+        taskService.updateTask(task.getId(), newTask("etag renamed", "etag-a", "etag-b"));
+
+        assertThat(eTag("/tasks")).isNotEqualTo(tasks);
+        assertThat(eTag("/tags")).isNotEqualTo(tags);
+        assertThat(eTag("/tags/" + tagId)).isNotEqualTo(tag);
+        mockMvc.perform(get("/tasks").with(httpBasic("username", "password"))
+                        .header(HttpHeaders.IF_NONE_MATCH, tasks))
+                .andExpect(status().isOk());
+    }
+
+    private String eTag(final String path) throws Exception {
+        final String eTag = mockMvc.perform(get(path).with(httpBasic("username", "password")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+        return eTag;
+    }
+
+    private void notModified(final String path, final String eTag) throws Exception {
+        mockMvc.perform(get(path).with(httpBasic("username", "password"))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    private static Task newTask(final String tittle, final String... tagNames) {
+        final Set<Tag> tags = new HashSet<>();
+        for (final String name : tagNames) {
+            final Tag tag = new Tag();
+            tag.setName(name);
+            tags.add(tag);
+        }
+        final Task task = new Task();
+        task.setTittle(tittle);
+        task.setTags(tags);
+        return task;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Upgrades a database with the schema and rows left by the former
+ * ddl-auto=update build: it is baselined at V1 like in production, and the
+ * later migrations must add and backfill everything the entities map.
+ */
+class FlywayUpgradeTest {
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:flyway-upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @BeforeEach
+    void createOriginalSchema() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        // As generated by Hibernate for the original Task, Tag and AuditLog mappings
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT GENERATED BY DEFAULT AS IDENTITY, "
+                + "completed BOOLEAN NOT NULL, due_date DATE, tittle VARCHAR(255), PRIMARY KEY (id))");
+        jdbcTemplate.execute("CREATE TABLE tags (id BIGINT GENERATED BY DEFAULT AS IDENTITY, "
+                + "date_created DATE, name VARCHAR(255), PRIMARY KEY (id), "
+                + "CONSTRAINT ukt48xdq560gs3gap9g7jg36kgc UNIQUE (name))");
+        jdbcTemplate.execute("CREATE TABLE task_tag (task_id BIGINT NOT NULL, tag_id BIGINT NOT NULL, "
+                + "PRIMARY KEY (task_id, tag_id), "
+                + "CONSTRAINT fk1 FOREIGN KEY (task_id) REFERENCES tasks (id), "
+                + "CONSTRAINT fk2 FOREIGN KEY (tag_id) REFERENCES tags (id))");
+        jdbcTemplate.execute("CREATE TABLE audit_log (id BIGINT GENERATED BY DEFAULT AS IDENTITY, "
+                + "action VARCHAR(255), details VARCHAR(255), entity_name VARCHAR(255), "
+                + "timestamp TIMESTAMP(6), username VARCHAR(255), PRIMARY KEY (id))");
+
+        jdbcTemplate.update("INSERT INTO tasks (id, tittle, completed, due_date) VALUES "
+                + "(1, 'a', FALSE, DATE '2024-01-01'), (2, 'b', TRUE, DATE '2024-01-01'), (7, 'c', FALSE, NULL)");
+        jdbcTemplate.update("INSERT INTO tags (id, name, date_created) VALUES "
+                + "(1, 'work', DATE '2024-01-01'), (2, 'home', DATE '2024-01-01'), (3, 'unused', NULL)");
+        jdbcTemplate.update("INSERT INTO task_tag (task_id, tag_id) VALUES (1, 1), (2, 1), (7, 1), (7, 2)");
+    }
+
+    @Test
+    void upgradesTheOriginalSchema() {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success = TRUE ORDER BY installed_rank",
+                String.class)).containsExactly("1", "2", "3", "4", "5");
+
+        assertThat(jdbcTemplate.queryForList("SELECT task_count FROM tags ORDER BY id", Long.class))
+                .containsExactly(3L, 1L, 0L);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT version FROM tasks", Long.class))
+                .containsExactly(0L);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT version FROM tags", Long.class))
+                .containsExactly(0L);
+
+        // One allocation block past the highest id in use
+        assertThat(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR tasks_seq", Long.class))
+                .isEqualTo(7 + 50 + 1);
+
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT task_count, open_count FROM task_due_day_counts WHERE due_day = DATE '2024-01-01'"))
+                .containsEntry("task_count", 2L)
+                .containsEntry("open_count", 1L);
+
+        final List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes", String.class);
+        assertThat(indexes).contains("idx_tasks_completed_id", "idx_tasks_due_date_id",
+                "idx_tags_date_created", "idx_tags_task_count_id", "idx_task_tag_tag_task",
+                "idx_tasks_completed_due_date_id");
+    }
+}
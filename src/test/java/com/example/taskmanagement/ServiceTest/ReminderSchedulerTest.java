@@ -0,0 +1,107 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.DueReminderDTO;
+import com.example.taskmanagement.DTO.TaskPatchDTO;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Service.ReminderScheduler;
+import com.example.taskmanagement.Service.TaskService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Checks that task writes move and cancel reminders inside the loaded horizon,
+ * and that a restarted scheduler loads the open tasks window by window. Due
+ * dates are from tomorrow on, so no reminder is due while the tests run.
+ */
+@SpringBootTest
+class ReminderSchedulerTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ReminderScheduler reminderScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void taskWritesScheduleMoveAndCancelReminders() throws InterruptedException {
+        final LocalDate tomorrow = LocalDate.now().plusDays(1);
+        awaitHorizon(reminderScheduler, tomorrow.plusDays(1));
+
+        final Long id = taskService.createTask(newTask("remind me", tomorrow, false)).getId();
+        assertThat(reminderScheduler.isScheduled(id)).isTrue();
+
+        taskService.patchTask(id, new TaskPatchDTO(null, true, null, null, null, null));
+        assertThat(reminderScheduler.isScheduled(id)).isFalse();
+
+        taskService.patchTask(id, new TaskPatchDTO(null, false, tomorrow.plusDays(30), null, null, null));
+        assertThat(reminderScheduler.isScheduled(id)).as("beyond the horizon, left to the loader").isFalse();
+
+        taskService.patchTask(id, new TaskPatchDTO(null, null, tomorrow, null, null, null));
+        assertThat(reminderScheduler.isScheduled(id)).isTrue();
+
+        taskService.deleteTask(id);
+        assertThat(reminderScheduler.isScheduled(id)).isFalse();
+    }
+
+    @Test
+    void restartedSchedulerLoadsOpenTasksWindowByWindow() throws InterruptedException {
+        final LocalDate tomorrow = LocalDate.now().plusDays(1);
+        final List<Long> open = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            open.add(taskService.createTask(newTask("open " + i, tomorrow, false)).getId());
+        }
+        final Long completed = taskService.createTask(newTask("completed", tomorrow, true)).getId();
+        final Long later = taskService.createTask(newTask("later", tomorrow.plusDays(10), false)).getId();
+
+        // A load batch of 2 pages through the keyset
+        final List<DueReminderDTO> fired = new ArrayList<>();
+        final ReminderScheduler restarted = new ReminderScheduler(jdbcTemplate, fired::add, new SimpleMeterRegistry(),
+                "09:00", 1000, 512, 2, 1, 2);
+        assertThat(restarted.pending()).isZero();
+        // Nothing else ticks this instance, so each tick loads its whole window
+        awaitHorizon(restarted, tomorrow.plusDays(1));
+
+        for (final Long id : open) {
+            assertThat(restarted.isScheduled(id)).isTrue();
+        }
+        assertThat(restarted.isScheduled(completed)).isFalse();
+        assertThat(restarted.isScheduled(later)).isFalse();
+        assertThat(fired).isEmpty();
+    }
+
+    private static void awaitHorizon(final ReminderScheduler scheduler, final LocalDate horizon)
+            throws InterruptedException {
+        for (int i = 0; i < 100 && scheduler.horizon().isBefore(horizon); i++) {
+            scheduler.tick();
+            Thread.sleep(10);
+        }
+        assertThat(scheduler.horizon()).isAfterOrEqualTo(horizon);
+    }
+
+    private static Task newTask(final String tittle, final LocalDate dueDate, final boolean completed) {
+        final Tag tag = new Tag();
+        tag.setName("reminders");
+        final Task task = new Task();
+        task.setTittle(tittle);
+        task.setDueDate(dueDate);
+        task.setCompleted(completed);
+        task.setTags(new HashSet<>(Set.of(tag)));
+        return task;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs EXPLAIN on the embedded database for the statements behind the
+ * repository filters and checks that each one reads the index the migrations
+ * created for it instead of scanning the table.
+ */
+@SpringBootTest
+class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void tasksByCompletedUseCompletedIndex() {
+        assertThat(plan("SELECT id FROM tasks WHERE completed = TRUE AND id > 0"))
+                .containsIgnoringCase("idx_tasks_completed_id");
+    }
+
+    @Test
+    void tasksByDueDateUseDueDateIndex() {
+        assertThat(plan("SELECT id FROM tasks WHERE due_date BETWEEN DATE '2024-01-01' AND DATE '2024-01-31'"))
+                .containsIgnoringCase("idx_tasks_due_date_id");
+    }
+
+    @Test
+    void overdueTasksUseCompletedDueDateIndex() {
+        assertThat(plan("SELECT id FROM tasks WHERE completed = FALSE AND due_date < DATE '2024-01-01'"))
+                .containsIgnoringCase("idx_tasks_completed_due_date_id");
+    }
+
+    @Test
+    void tagsByDateCreatedUseDateCreatedIndex() {
+        assertThat(plan("SELECT id, name FROM tags WHERE date_created = DATE '2024-01-01'"))
+                .containsIgnoringCase("idx_tags_date_created");
+    }
+
+    @Test
+    void taskTagByTagUsesReverseIndex() {
+        assertThat(plan("SELECT COUNT(*) FROM task_tag WHERE tag_id = 1"))
+                .containsIgnoringCase("idx_task_tag_tag_task");
+        assertThat(plan("SELECT task_id FROM task_tag WHERE tag_id = 1"))
+                .containsIgnoringCase("idx_task_tag_tag_task");
+    }
+
+    @Test
+    void migrationsAreApplied() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE success = TRUE", Integer.class))
+                .isGreaterThanOrEqualTo(2);
+    }
+
+    private String plan(final String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Repository.TagRepository;
+import com.example.taskmanagement.Service.TaskService;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Creates tasks from many threads at once, all of them using the same handful
+ * of brand-new tag names, and checks that every request succeeds and every
+ * name ends up as exactly one tag row.
+ */
+@SpringBootTest
+class TagGetOrCreateConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int TASKS_PER_THREAD = 25;
+    private static final int DISTINCT_TAGS = 8;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Test
+    void concurrentTaskCreationSharesNewTagsWithoutErrors() throws InterruptedException {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < DISTINCT_TAGS; i++) {
+            names.add("stress-" + i);
+        }
+
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < TASKS_PER_THREAD; i++) {
+                        taskService.createTask(newTask(names));
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(failures).isEmpty();
+        final List<Tag> tags = tagRepository.findByNameIn(names);
+        assertThat(tags).hasSize(DISTINCT_TAGS);
+        assertThat(tags).extracting(Tag::getName).containsExactlyInAnyOrderElementsOf(names);
+    }
+
+    private static Task newTask(List<String> names) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            final Tag tag = new Tag();
+            tag.setName(names.get(random.nextInt(names.size())));
+            tags.add(tag);
+        }
+        final Task task = new Task();
+        task.setTittle("stress task");
+        task.setTags(tags);
+        return task;
+    }
+}
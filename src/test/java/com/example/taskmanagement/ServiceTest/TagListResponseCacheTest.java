@@ -0,0 +1,76 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.example.taskmanagement.Service.TagListResponseCache;
+import com.example.taskmanagement.event.ChangeType;
+import com.example.taskmanagement.event.TagChangedEvent;
+import com.example.taskmanagement.event.TaskChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Checks which change events invalidate which cached tag listings.
+ */
+class TagListResponseCacheTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 1);
+
+    private final TagListResponseCache cache = new TagListResponseCache(new ObjectMapper(), new SimpleMeterRegistry(),
+            100, Duration.ofMinutes(5));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesCachedBytesUntilInvalidated() {
+        assertThat(body(cache.get(null, 0, null, null, loader()))).contains("\"load\":1");
+        assertThat(body(cache.get(null, 0, null, null, loader()))).contains("\"load\":1");
+        cache.get(DATE, 0, null, null, loader());
+        assertThat(loads).hasValue(2);
+
+        // A task write without tag changes invalidates nothing
+        cache.onTaskChanged(new TaskChangedEvent(ChangeType.UPDATED, 1, "t", true, null, Set.of(1L), Set.of(1L)));
+        cache.get(null, 0, null, null, loader());
+        assertThat(loads).hasValue(2);
+
+        // A tag usage change invalidates the counted listing only
+        cache.onTaskChanged(new TaskChangedEvent(ChangeType.UPDATED, 1, "t", true, null, Set.of(2L), Set.of(1L)));
+        assertThat(body(cache.get(null, 0, null, null, loader()))).contains("\"load\":3");
+        cache.get(DATE, 0, null, null, loader());
+        assertThat(loads).hasValue(3);
+
+        // A tag change invalidates everything
+        cache.onTagChanged(new TagChangedEvent(ChangeType.DELETED, 2, "old"));
+        cache.get(null, 0, null, null, loader());
+        cache.get(DATE, 0, null, null, loader());
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    void doesNotKeepResponseComputedDuringInvalidation() {
+        cache.get(null, 0, null, null, () -> {
+            cache.onTagChanged(new TagChangedEvent(ChangeType.CREATED, 3, "new"));
+            return loader().get();
+        });
+        cache.get(null, 0, null, null, loader());
+        assertThat(loads).hasValue(2);
+    }
+
+    private Supplier<ResponseEntity<?>> loader() {
+        return () -> ResponseEntity.ok(Map.of("load", loads.incrementAndGet()));
+    }
+
+    private static String body(final ResponseEntity<byte[]> response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+}
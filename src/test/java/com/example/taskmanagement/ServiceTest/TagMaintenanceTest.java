@@ -0,0 +1,144 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.TagDTO;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Repository.TagRepository;
+import com.example.taskmanagement.Repository.TagRepositoryCustom;
+import com.example.taskmanagement.Service.TagMaintenanceService;
+import com.example.taskmanagement.Service.TaskService;
+import com.example.taskmanagement.exception.types.ResourceNotFoundException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs tag delete, rename and merge with a chunk size smaller than the number
+ * of links, and checks links, counters and versions afterwards.
+ */
+@SpringBootTest(properties = "tags.maintenance.chunk-size=2")
+class TagMaintenanceTest {
+
+    @Autowired
+    private TagMaintenanceService tagMaintenanceService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void mergeMovesLinksWithoutDuplicates() {
+        final List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(i < 2 ? taskService.createTask(newTask("merge " + i, "merge-src", "merge-dst"))
+                    : taskService.createTask(newTask("merge " + i, "merge-src")));
+        }
+        final long sourceId = tagId("merge-src");
+        final long targetId = tagId("merge-dst");
+        final long version = version(tasks.get(0).getId());
+
+        final TagDTO target = tagMaintenanceService.mergeTags(sourceId, targetId);
+
+        assertThat(target.getTagTaskCount()).isEqualTo(5);
+        assertThat(links(targetId)).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT task_id) FROM task_tag WHERE tag_id = ?",
+                Long.class, targetId)).isEqualTo(5);
+        assertThat(links(sourceId)).isZero();
+        assertThat(tagRepository.findById(sourceId)).isEmpty();
+        assertThat(version(tasks.get(0).getId())).isGreaterThan(version);
+
+        // The deleted name resolves to a new tag rather than the cached one
+        final Task recreated = taskService.createTask(newTask("merge again", "merge-src"));
+        assertThat(recreated.getTags().iterator().next().getId()).isNotEqualTo(sourceId);
+    }
+
+    @Test
+    void relinkCountsTheLinksItChanged() {
+        final Task linked = taskService.createTask(newTask("relink 1", "relink-src"));
+        final Task other = taskService.createTask(newTask("relink 2", "relink-dst"));
+        final long sourceId = tagId("relink-src");
+        final long targetId = tagId("relink-dst");
+
+        // A stale chunk that still lists a task without the source link
+        final TagRepositoryCustom.Relinked relinked =
+                tagRepository.relinkTasks(sourceId, targetId, List.of(linked.getId(), other.getId()));
+
+        assertThat(relinked.added()).isEqualTo(1);
+        assertThat(relinked.removed()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteUnlinksEveryChunkAndKeepsTasks() {
+        final List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            taskIds.add(taskService.createTask(newTask("delete " + i, "delete-me", "delete-keep")).getId());
+        }
+        final long tagId = tagId("delete-me");
+
+        assertThat(tagMaintenanceService.deleteTag(tagId)).isEqualTo(5);
+
+        assertThat(links(tagId)).isZero();
+        assertThat(tagRepository.findById(tagId)).isEmpty();
+        assertThat(tagRepository.findTagStatisticsById(tagId("delete-keep")).orElseThrow().getTagTaskCount())
+                .isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE id IN (?, ?, ?, ?, ?)",
+                Long.class, taskIds.toArray())).isEqualTo(5);
+        assertThatThrownBy(() -> tagMaintenanceService.deleteTag(tagId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void renameKeepsLinksAndRejectsTakenNames() {
+        taskService.createTask(newTask("rename", "rename-old", "rename-taken"));
+        final long tagId = tagId("rename-old");
+
+        final TagDTO renamed = tagMaintenanceService.renameTag(tagId, "rename-new");
+
+        assertThat(renamed.getName()).isEqualTo("rename-new");
+        assertThat(renamed.getTagTaskCount()).isEqualTo(1);
+        assertThat(tagRepository.findById(tagId).orElseThrow().getName()).isEqualTo("rename-new");
+        assertThatThrownBy(() -> tagMaintenanceService.renameTag(tagId, "rename-taken"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private long tagId(final String name) {
+        return jdbcTemplate.queryForObject("SELECT id FROM tags WHERE name = ?", Long.class, name);
+    }
+
+    private long links(final long tagId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_tag WHERE tag_id = ?", Long.class, tagId);
+    }
+
+    private long version(final long taskId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, taskId);
+    }
+
+    private static Task newTask(final String tittle, final String... tagNames) {
+        final Set<Tag> tags = new HashSet<>();
+        for (final String name : tagNames) {
+            final Tag tag = new Tag();
+            tag.setName(name);
+            tags.add(tag);
+        }
+        final Task task = new Task();
+        task.setTittle(tittle);
+        task.setTags(tags);
+        return task;
+    }
+}
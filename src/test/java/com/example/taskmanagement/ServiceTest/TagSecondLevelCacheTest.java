@@ -0,0 +1,85 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Repository.TagRepository;
+import com.example.taskmanagement.Service.TagService;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Checks that Tag lookups by id and by creation date are answered from the
+ * second-level cache, and that deletes and inserts invalidate it.
+ */
+@SpringBootTest
+class TagSecondLevelCacheTest {
+
+    private static final LocalDate CREATED = LocalDate.of(2001, 2, 3);
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void repeatedLookupsHitTheCache() {
+        final Long tagId = createTag("l2-lookup").getId();
+        tagRepository.findById(tagId);
+
+        statistics.clear();
+        assertThat(tagRepository.findById(tagId)).map(Tag::getName).contains("l2-lookup");
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void dateQueryIsCachedUntilTagsChange() {
+        final Tag first = createTag("l2-date-a");
+        assertThat(tagRepository.findTagsByDateCreated(CREATED)).extracting(Tag::getName).contains("l2-date-a");
+
+        statistics.clear();
+        tagRepository.findTagsByDateCreated(CREATED);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        createTag("l2-date-b");
+        assertThat(tagRepository.findTagsByDateCreated(CREATED)).extracting(Tag::getName)
+                .contains("l2-date-a", "l2-date-b");
+
+        tagService.deleteTag(first.getId());
+        assertThat(tagRepository.findById(first.getId())).isEmpty();
+        assertThat(tagRepository.findByName("l2-date-a")).isEmpty();
+        assertThat(tagRepository.findTagsByDateCreated(CREATED)).extracting(Tag::getName)
+                .doesNotContain("l2-date-a");
+    }
+
+    private Tag createTag(final String name) {
+        final Tag tag = new Tag();
+        tag.setName(name);
+        tag.setDateCreated(CREATED);
+        tagService.createTag(Set.of(tag));
+        return tagRepository.findByName(name).orElseThrow();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.BulkTaskResultDTO;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Service.TaskService;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Checks that invalid items of a bulk request are reported per item while the
+ * valid ones are still saved.
+ */
+@SpringBootTest
+class TaskBulkSaveTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void nullItemFailsWithoutFailingTheRequest() {
+        final List<BulkTaskResultDTO> results = taskService.saveTasks(Arrays.asList(null, newTask("bulk valid")));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getStatus()).isEqualTo("FAILED");
+        assertThat(results.get(0).getId()).isNull();
+        assertThat(results.get(0).getError()).isEqualTo("Task must not be null");
+        assertThat(results.get(1).getStatus()).isEqualTo("CREATED");
+        assertThat(results.get(1).getId()).isNotNull();
+    }
+
+    @Test
+    void nullOrBlankTagFailsOnlyItsItem() {
+        final Task nullTag = newTask("bulk null tag");
+        nullTag.getTags().add(null);
+        final Task blankTag = newTask("bulk blank tag");
+        final Tag blank = new Tag();
+        blank.setName(" ");
+        blankTag.getTags().add(blank);
+
+        final List<BulkTaskResultDTO> results =
+                taskService.saveTasks(List.of(nullTag, blankTag, newTask("bulk valid after tags")));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getStatus()).isEqualTo("FAILED");
+        assertThat(results.get(0).getError()).isEqualTo("Tag must not be null");
+        assertThat(results.get(1).getStatus()).isEqualTo("FAILED");
+        assertThat(results.get(1).getError()).isEqualTo("Tag name must not be empty");
+        assertThat(results.get(2).getStatus()).isEqualTo("CREATED");
+    }
+
+    private static Task newTask(final String tittle) {
+        final Tag tag = new Tag();
+        tag.setName("bulk");
+        final Task task = new Task();
+        task.setTittle(tittle);
+        task.setTags(new HashSet<>(Set.of(tag)));
+        return task;
+    }
+}
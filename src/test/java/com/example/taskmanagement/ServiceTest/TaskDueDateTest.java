@@ -0,0 +1,179 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.CursorPageDTO;
+import com.example.taskmanagement.DTO.DueDayCountDTO;
+import com.example.taskmanagement.DTO.TaskPatchDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Service.DueDayCountReconciler;
+import com.example.taskmanagement.Service.TaskService;
+import com.example.taskmanagement.exception.types.ValidationException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Checks the due date range listings, their cursor and tag filters, and the
+ * per-day counts through creates, updates, patches and deletes. Every test
+ * uses its own dates and tags, since the database is shared.
+ */
+@SpringBootTest
+class TaskDueDateTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private DueDayCountReconciler dueDayCountReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rangePagesFollowDueDateThenId() {
+        final LocalDate day = LocalDate.of(2090, 3, 1);
+        final List<Long> expected = new ArrayList<>();
+        expected.add(taskService.createTask(newTask("range 1", day, false, "due-range")).getId());
+        expected.add(taskService.createTask(newTask("range 2", day, true, "due-range")).getId());
+        expected.add(taskService.createTask(newTask("range 3", day.plusDays(1), false, "due-range")).getId());
+        expected.add(taskService.createTask(newTask("range 4", day.plusDays(2), false, "due-range")).getId());
+        taskService.createTask(newTask("outside", day.plusDays(3), false, "due-range"));
+
+        final List<Long> seen = new ArrayList<>();
+        String after = null;
+        do {
+            final CursorPageDTO<TaskViewDTO> page = taskService.getTasksDue(day, day.plusDays(2), Optional.empty(),
+                    List.of(), List.of(), List.of(), 2, after);
+            page.getItems().forEach(task -> seen.add(task.id()));
+            after = page.getNextCursor();
+        } while (after != null);
+        assertThat(seen).containsExactlyElementsOf(expected);
+
+        final CursorPageDTO<TaskViewDTO> open = taskService.getTasksDue(day, day.plusDays(2), Optional.of(false),
+                List.of(), List.of(), List.of(), 10, null);
+        assertThat(open.getItems()).extracting(TaskViewDTO::tittle).containsExactly("range 1", "range 3", "range 4");
+    }
+
+    @Test
+    void tagFiltersCombineWithTheRange() {
+        final LocalDate day = LocalDate.of(2091, 7, 1);
+        for (int i = 0; i < 6; i++) {
+            taskService.createTask(newTask("red " + i, day.plusDays(i), false, "due-red"));
+            taskService.createTask(newTask("blue " + i, day.plusDays(i), false, "due-blue"));
+        }
+
+        final List<String> titles = new ArrayList<>();
+        String after = null;
+        do {
+            final CursorPageDTO<TaskViewDTO> page = taskService.getTasksDue(day, day.plusDays(5), Optional.empty(),
+                    List.of("due-red"), List.of(), List.of(), 4, after);
+            page.getItems().forEach(task -> titles.add(task.tittle()));
+            after = page.getNextCursor();
+        } while (after != null);
+        assertThat(titles).containsExactly("red 0", "red 1", "red 2", "red 3", "red 4", "red 5");
+    }
+
+    @Test
+    void rangeWithoutStartIncludesEveryEarlierDueDate() {
+        final LocalDate day = LocalDate.of(2093, 1, 1);
+        taskService.createTask(newTask("open start old", LocalDate.of(1980, 1, 1), false, "due-open-start"));
+        taskService.createTask(newTask("open start last", day, true, "due-open-start"));
+        taskService.createTask(newTask("open start after", day.plusDays(1), false, "due-open-start"));
+
+        final CursorPageDTO<TaskViewDTO> page = taskService.getTasksDue(null, day, Optional.empty(),
+                List.of("due-open-start"), List.of(), List.of(), 10, null);
+        assertThat(page.getItems()).extracting(TaskViewDTO::tittle)
+                .containsExactly("open start old", "open start last");
+    }
+
+    @Test
+    void overdueListsIncompleteTasksDueBeforeToday() {
+        final LocalDate past = LocalDate.of(1990, 1, 1);
+        final Task open = taskService.createTask(newTask("late", past, false, "due-overdue"));
+        taskService.createTask(newTask("late but done", past, true, "due-overdue"));
+        taskService.createTask(newTask("today", LocalDate.now(), false, "due-overdue"));
+
+        final CursorPageDTO<TaskViewDTO> overdue = taskService.getOverdueTasks(List.of("due-overdue"), List.of(),
+                List.of(), 10, null);
+        assertThat(overdue.getItems()).extracting(TaskViewDTO::id).containsExactly(open.getId());
+
+        final CursorPageDTO<TaskViewDTO> today = taskService.getTasksDueToday(Optional.empty(),
+                List.of("due-overdue"), List.of(), List.of(), 10, null);
+        assertThat(today.getItems()).extracting(TaskViewDTO::tittle).containsExactly("today");
+    }
+
+    @Test
+    void dayCountsFollowEveryWrite() {
+        final LocalDate day = LocalDate.of(2092, 5, 10);
+        final Task first = taskService.createTask(newTask("calendar 1", day, false, "due-calendar"));
+        final Task second = taskService.createTask(newTask("calendar 2", day, false, "due-calendar"));
+        assertThat(taskService.getDueDayCounts(day, day)).containsExactly(new DueDayCountDTO(day, 2, 2));
+
+        taskService.patchTask(first.getId(), new TaskPatchDTO(null, true, null, null, null, null));
+        assertThat(taskService.getDueDayCounts(day, day)).containsExactly(new DueDayCountDTO(day, 2, 1));
+
+        taskService.updateTask(second.getId(), newTask("calendar 2", day.plusDays(1), false, "due-calendar"));
+        assertThat(taskService.getDueDayCounts(day, day.plusDays(1))).containsExactly(
+                new DueDayCountDTO(day, 1, 0), new DueDayCountDTO(day.plusDays(1), 1, 1));
+
+        taskService.patchTask(second.getId(), new TaskPatchDTO(null, null, null, true, null, null));
+        taskService.deleteTask(first.getId());
+        assertThat(taskService.getDueDayCounts(day, day.plusDays(1))).isEmpty();
+        assertThat(dueDayCountReconciler.reconcile()).isZero();
+    }
+
+    @Test
+    void reconcileRecomputesDriftedAndMissingDays() {
+        final LocalDate day = LocalDate.of(2094, 2, 1);
+        taskService.createTask(newTask("drift 1", day, false, "due-drift"));
+        taskService.createTask(newTask("drift 2", day, true, "due-drift"));
+        taskService.createTask(newTask("missing", day.plusDays(1), false, "due-drift"));
+        jdbcTemplate.update("UPDATE task_due_day_counts SET task_count = 7, open_count = 7 WHERE due_day = ?", day);
+        jdbcTemplate.update("DELETE FROM task_due_day_counts WHERE due_day = ?", day.plusDays(1));
+
+        assertThat(dueDayCountReconciler.reconcile()).isEqualTo(2);
+        assertThat(taskService.getDueDayCounts(day, day.plusDays(1))).containsExactly(
+                new DueDayCountDTO(day, 2, 1), new DueDayCountDTO(day.plusDays(1), 1, 1));
+        assertThat(dueDayCountReconciler.reconcile()).isZero();
+    }
+
+    @Test
+    void invalidRangesAreRejected() {
+        final LocalDate day = LocalDate.of(2093, 1, 1);
+        assertThatThrownBy(() -> taskService.getDueDayCounts(day, day.minusDays(1)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> taskService.getDueDayCounts(day, day.plusYears(2)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> taskService.getTasksDue(day, day, Optional.empty(), List.of(), List.of(),
+                List.of(), 10, "not-a-cursor")).isInstanceOf(ValidationException.class);
+    }
+
+    private static Task newTask(final String tittle, final LocalDate dueDate, final boolean completed,
+                                final String... tagNames) {
+        final Set<Tag> tags = new HashSet<>();
+        for (final String name : tagNames) {
+            final Tag tag = new Tag();
+            tag.setName(name);
+            tags.add(tag);
+        }
+        final Task task = new Task();
+        task.setTittle(tittle);
+        task.setDueDate(dueDate);
+        task.setCompleted(completed);
+        task.setTags(tags);
+        return task;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.CursorPageDTO;
+import com.example.taskmanagement.DTO.TagWithTasksDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Repository.TagRepository;
+import com.example.taskmanagement.Service.TagService;
+import com.example.taskmanagement.Service.TaskService;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Checks that the task read paths issue a fixed number of statements whatever
+ * the page size, and load no entities.
+ */
+@SpringBootTest
+class TaskReadQueryCountTest {
+
+    private static final String TAG_PREFIX = "read-count-";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void createTasks() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (tagRepository.findByName(TAG_PREFIX + 0).isPresent()) {
+            return;
+        }
+        for (int i = 0; i < 40; i++) {
+            final Set<Tag> tags = new HashSet<>();
+            for (int j = 0; j < 3; j++) {
+                final Tag tag = new Tag();
+                tag.setName(TAG_PREFIX + ((i + j) % 5));
+                tags.add(tag);
+            }
+            final Task task = new Task();
+            task.setTittle("read task " + i);
+            task.setTags(tags);
+            taskService.createTask(task);
+        }
+    }
+
+    @Test
+    void taskPageUsesTwoStatementsForAnyPageSize() {
+        for (int limit : new int[] {1, 10, 40}) {
+            statistics.clear();
+            final CursorPageDTO<TaskViewDTO> page = taskService.getTasksPage(Optional.empty(), limit, null);
+
+            assertThat(page.getItems()).hasSize(limit);
+            assertThat(page.getItems()).allSatisfy(task -> assertThat(task.tags()).isNotEmpty());
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+    }
+
+    @Test
+    void tagWithTasksUsesThreeStatements() {
+        final Long tagId = tagRepository.findByName(TAG_PREFIX + 0).orElseThrow().getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        final TagWithTasksDTO tag = tagService.getTagWithTasks(tagId);
+
+        assertThat(tag.getTasks()).hasSizeGreaterThanOrEqualTo(24);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+}
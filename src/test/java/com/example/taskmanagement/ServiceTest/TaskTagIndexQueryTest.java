@@ -0,0 +1,134 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.TagSuggestionDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Service.TagService;
+import com.example.taskmanagement.Service.TaskService;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Checks boolean tag queries, title search and tag suggestions against the
+ * in-memory indexes after creates, updates and deletes.
+ */
+@SpringBootTest
+class TaskTagIndexQueryTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Test
+    void queriesFollowCommittedWrites() {
+        final Task ab = taskService.createTask(newTask("ab", false, "idx-a", "idx-b"));
+        final Task abc = taskService.createTask(newTask("abc", false, "idx-a", "idx-b", "idx-c"));
+        final Task bDone = taskService.createTask(newTask("b done", true, "idx-b"));
+        final Task c = taskService.createTask(newTask("c", false, "idx-c"));
+
+        assertThat(query(List.of("idx-a", "idx-b"), List.of(), List.of("idx-c"), Optional.empty()))
+                .containsExactly(ab.getId());
+        assertThat(query(List.of(), List.of("idx-a", "idx-c"), List.of(), Optional.empty()))
+                .containsExactly(ab.getId(), abc.getId(), c.getId());
+        assertThat(query(List.of("idx-b"), List.of(), List.of(), Optional.of(false)))
+                .containsExactly(ab.getId(), abc.getId());
+        assertThat(query(List.of("idx-b"), List.of(), List.of(), Optional.of(true)))
+                .containsExactly(bDone.getId());
+        assertThat(query(List.of("idx-a", "idx-unknown"), List.of(), List.of(), Optional.empty())).isEmpty();
+
+        taskService.updateTask(ab.getId(), newTask("ab", true, "idx-c"));
+        taskService.deleteTask(abc.getId());
+
+        assertThat(query(List.of("idx-a"), List.of(), List.of(), Optional.empty())).isEmpty();
+        assertThat(query(List.of("idx-c"), List.of(), List.of(), Optional.empty()))
+                .containsExactly(ab.getId(), c.getId());
+        assertThat(query(List.of(), List.of("idx-b", "idx-c"), List.of(), Optional.of(true)))
+                .containsExactly(ab.getId(), bDone.getId());
+    }
+
+    @Test
+    void titleSearchRanksMatchesAndFollowsUpdates() {
+        final Task later = taskService.createTask(newTask("Review the Zqxport draft", false, "srch-a"));
+        final Task word = taskService.createTask(newTask("Draft zqxport", false, "srch-a"));
+        final Task prefix = taskService.createTask(newTask("Zqxport quarterly numbers", false, "srch-b"));
+        final Task exact = taskService.createTask(newTask("zqxport", true, "srch-b"));
+        taskService.createTask(newTask("Unrelated", false, "srch-a"));
+
+        assertThat(search("ZQXPORT", List.of(), Optional.empty()))
+                .containsExactly(exact.getId(), prefix.getId(), word.getId(), later.getId());
+        assertThat(search("qxpor", List.of("srch-a"), Optional.empty()))
+                .containsExactly(word.getId(), later.getId());
+        assertThat(search("zqxport", List.of("srch-b"), Optional.of(false)))
+                .containsExactly(prefix.getId());
+
+        taskService.updateTask(word.getId(), newTask("Draft summary", false, "srch-a"));
+        taskService.deleteTask(exact.getId());
+
+        assertThat(search("zqxport", List.of(), Optional.empty()))
+                .containsExactly(prefix.getId(), later.getId());
+        assertThat(search("summary", List.of("srch-a"), Optional.empty())).containsExactly(word.getId());
+    }
+
+    @Test
+    void tagSuggestionsRankByUsage() {
+        taskService.createTask(newTask("one", false, "Sugg-Alpha", "sugg-beta"));
+        taskService.createTask(newTask("two", false, "sugg-beta"));
+        final Task three = taskService.createTask(newTask("three", false, "sugg-beta", "sugg-gamma"));
+
+        assertThat(suggest("SUGG-", 10)).containsExactly("sugg-beta", "Sugg-Alpha", "sugg-gamma");
+        assertThat(suggest("sugg-", 1)).containsExactly("sugg-beta");
+        assertThat(suggest("sugg-g", 10)).containsExactly("sugg-gamma");
+        assertThat(suggest("sugg-x", 10)).isEmpty();
+
+        taskService.updateTask(three.getId(), newTask("three", false, "sugg-gamma", "Sugg-Alpha"));
+        taskService.createTask(newTask("four", false, "sugg-gamma"));
+        taskService.createTask(newTask("five", false, "sugg-gamma"));
+
+        assertThat(suggest("sugg-", 10)).containsExactly("sugg-gamma", "Sugg-Alpha", "sugg-beta");
+    }
+
+    private List<String> suggest(final String prefix, final int limit) {
+        return tagService.suggestTags(prefix, limit).stream()
+                .map(TagSuggestionDTO::name)
+                .toList();
+    }
+
+    private List<Long> search(final String query, final List<String> allOf, final Optional<Boolean> completed) {
+        return taskService.searchTasks(query, allOf, List.of(), List.of(), completed, 0, 50).getItems().stream()
+                .map(TaskViewDTO::id)
+                .toList();
+    }
+
+    private List<Long> query(final List<String> allOf, final List<String> anyOf, final List<String> noneOf,
+                             final Optional<Boolean> completed) {
+        return taskService.queryTasksByTags(allOf, anyOf, noneOf, completed, 500, null).getItems().stream()
+                .map(TaskViewDTO::id)
+                .toList();
+    }
+
+    private static Task newTask(final String tittle, final boolean completed, final String... tagNames) {
+        final Set<Tag> tags = new HashSet<>();
+        for (final String name : tagNames) {
+            final Tag tag = new Tag();
+            tag.setName(name);
+            tags.add(tag);
+        }
+        final Task task = new Task();
+        task.setTittle(tittle);
+        task.setCompleted(completed);
+        task.setTags(tags);
+        return task;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.taskmanagement.DTO.TagViewDTO;
+import com.example.taskmanagement.DTO.TaskPatchDTO;
+import com.example.taskmanagement.DTO.TaskViewDTO;
+import com.example.taskmanagement.Model.Tag;
+import com.example.taskmanagement.Model.Task;
+import com.example.taskmanagement.Service.TaskService;
+import com.example.taskmanagement.exception.types.ValidationException;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Checks that task updates write only the join rows that changed, and that a
+ * patch runs without loading the task.
+ */
+@SpringBootTest
+class TaskUpdateStatementTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void updateKeepingTagsWritesNoJoinRows() {
+        final Task task = taskService.createTask(newTask("put", "put-a", "put-b", "put-c", "put-d", "put-e"));
+        statistics.clear();
+
+        taskService.updateTask(task.getId(), newTask("put renamed", "put-a", "put-b", "put-c", "put-d", "put-e"));
+
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+        assertThat(version(task.getId())).isEqualTo(task.getVersion() + 1);
+    }
+
+    @Test
+    void updateChangingOneTagTouchesOnlyThatRow() {
+        final Task task = taskService.createTask(newTask("swap", "swap-a", "swap-b", "swap-c"));
+        statistics.clear();
+
+        taskService.updateTask(task.getId(), newTask("swap", "swap-a", "swap-b", "swap-d"));
+
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(tagNames(task.getId())).containsExactlyInAnyOrder("swap-a", "swap-b", "swap-d");
+        assertThat(taskCount("swap-c")).isZero();
+        assertThat(taskCount("swap-d")).isEqualTo(1);
+    }
+
+    @Test
+    void patchChangesFieldsWithoutLoadingTheTask() {
+        final Task task = taskService.createTask(newTask("patch", "patch-a", "patch-b"));
+        statistics.clear();
+
+        final TaskViewDTO patched = taskService.patchTask(task.getId(),
+                new TaskPatchDTO("patch renamed", true, null, null, null, null));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(patched.tittle()).isEqualTo("patch renamed");
+        assertThat(patched.completed()).isTrue();
+        assertThat(patched.tags()).hasSize(2);
+        assertThat(version(task.getId())).isEqualTo(task.getVersion() + 1);
+        assertThat(patched.version()).isEqualTo(task.getVersion() + 1);
+    }
+
+    @Test
+    void patchAddsAndRemovesTags() {
+        final Task task = taskService.createTask(newTask("patch tags", "patch-keep", "patch-drop"));
+
+        final TaskViewDTO patched = taskService.patchTask(task.getId(),
+                new TaskPatchDTO(null, null, null, null, Set.of("patch-new", "patch-keep"), Set.of("patch-drop")));
+
+        assertThat(patched.tags()).extracting(TagViewDTO::name).containsExactlyInAnyOrder("patch-keep", "patch-new");
+        assertThat(patched.tittle()).isEqualTo("patch tags");
+        assertThat(taskCount("patch-drop")).isZero();
+        assertThat(taskCount("patch-new")).isEqualTo(1);
+        assertThat(taskCount("patch-keep")).isEqualTo(1);
+        assertThat(version(task.getId())).isEqualTo(task.getVersion() + 1);
+    }
+
+    @Test
+    void patchRemovingTheLastTagIsRejected() {
+        final Task task = taskService.createTask(newTask("patch last", "patch-last"));
+
+        assertThatThrownBy(() -> taskService.patchTask(task.getId(),
+                new TaskPatchDTO("patch lost", null, null, null, null, Set.of("patch-last"))))
+                .isInstanceOf(ValidationException.class);
+
+        assertThat(tagNames(task.getId())).containsExactly("patch-last");
+        assertThat(version(task.getId())).isEqualTo(task.getVersion());
+    }
+
+    private long version(final long taskId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, taskId);
+    }
+
+    private long taskCount(final String tagName) {
+        return jdbcTemplate.queryForObject("SELECT task_count FROM tags WHERE name = ?", Long.class, tagName);
+    }
+
+    private List<String> tagNames(final long taskId) {
+        return jdbcTemplate.queryForList("SELECT g.name FROM task_tag tt JOIN tags g ON g.id = tt.tag_id "
+                + "WHERE tt.task_id = ?", String.class, taskId);
+    }
+
+    private static Task newTask(final String tittle, final String... tagNames) {
+        final Set<Tag> tags = new HashSet<>();
+        for (final String name : tagNames) {
+            final Tag tag = new Tag();
+            tag.setName(name);
+            tags.add(tag);
+        }
+        final Task task = new Task();
+        task.setTittle(tittle);
+        task.setTags(tags);
+        return task;
+    }
+}
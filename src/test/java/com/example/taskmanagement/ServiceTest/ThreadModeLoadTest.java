@@ -0,0 +1,134 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.example.taskmanagement.Application;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares the servlet stack on a saturated platform thread pool with the
+ * virtual thread mode. Both runs get the same small Tomcat pool and connection
+ * pool; with virtual threads the Tomcat pool is not used, so only the
+ * connection pool limits database work and in-memory endpoints do not queue
+ * behind it.
+ *
+ * <p>A benchmark: it boots two applications and sends 4000 requests to each,
+ * so it only runs with {@code mvn test -Pbenchmark}. The numbers are logged
+ * for comparison; {@code VirtualThreadModeTest} covers the virtual thread
+ * mode in the default suite.</p>
+ */
+@Tag("benchmark")
+class ThreadModeLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadModeLoadTest.class);
+
+    private static final int CLIENTS = 200;
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void virtualThreadsServeTheSameLoadWithoutErrors() throws Exception {
+        final Result platform = run(false);
+        final Result virtual = run(true);
+
+        log.info("platform threads: {} requests/s, p99 {} ms", Math.round(platform.requestsPerSecond),
+                platform.p99Millis);
+        log.info("virtual threads: {} requests/s, p99 {} ms", Math.round(virtual.requestsPerSecond),
+                virtual.p99Millis);
+        assertThat(platform.errors).isZero();
+        assertThat(virtual.errors).isZero();
+    }
+
+    private Result run(final boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .properties("server.port=0",
+                        "server.tomcat.threads.max=32",
+                        "spring.datasource.hikari.maximum-pool-size=8",
+                        "spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final String token = login(port, context.getBean(ObjectMapper.class));
+            // A mix of database reads and in-memory reads
+            final List<URI> uris = List.of(URI.create("http://localhost:" + port + "/tasks"),
+                    URI.create("http://localhost:" + port + "/tags/suggest"));
+
+            // Warm up
+            send(uris.get(0), token);
+            send(uris.get(1), token);
+
+            final long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+            final List<Future<Integer>> clients = new ArrayList<>();
+            final long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < CLIENTS; c++) {
+                    final int clientIndex = c;
+                    clients.add(executor.submit(() -> {
+                        int errors = 0;
+                        for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                            final long requestStart = System.nanoTime();
+                            if (send(uris.get(r % uris.size()), token) != 200) {
+                                errors++;
+                            }
+                            latencies[clientIndex * REQUESTS_PER_CLIENT + r] = System.nanoTime() - requestStart;
+                        }
+                        return errors;
+                    }));
+                }
+            }
+            final long elapsed = System.nanoTime() - start;
+            int errors = 0;
+            for (final Future<Integer> result : clients) {
+                errors += result.get();
+            }
+            Arrays.sort(latencies);
+            return new Result(latencies.length * 1e9 / elapsed,
+                    latencies[(int) (latencies.length * 0.99)] / 1_000_000, errors);
+        }
+    }
+
+    private String login(final int port, final ObjectMapper objectMapper) throws Exception {
+        final String basic = Base64.getEncoder().encodeToString("username:password".getBytes(StandardCharsets.UTF_8));
+        final HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/auth/login"))
+                .header("Authorization", "Basic " + basic)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body()).path("data").path("token").asText();
+    }
+
+    private int send(final URI uri, final String token) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private record Result(double requestsPerSecond, long p99Millis, int errors) {
+    }
+}
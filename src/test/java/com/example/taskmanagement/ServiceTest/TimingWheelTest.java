@@ -0,0 +1,101 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.example.taskmanagement.Service.TimingWheel;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks firing order, cancellation and cascading across levels of the
+ * timing wheel on a manual clock.
+ */
+class TimingWheelTest {
+
+    private static final long TICK = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private final List<String> fired = new ArrayList<>();
+    private final TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, 1_000);
+
+    @Test
+    void firesAtTheEndOfTheTickOfTheDeadline() {
+        wheel.schedule(1_025, "a");
+
+        advance(1_029);
+        assertThat(fired).isEmpty();
+        advance(1_030);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void firesPastDeadlinesOnTheNextAdvance() {
+        wheel.schedule(500, "late");
+
+        advance(1_000);
+        assertThat(fired).containsExactly("late");
+    }
+
+    @Test
+    void cancelledTimersDoNotFire() {
+        final TimingWheel.Timer<String> cancelled = wheel.schedule(1_050, "cancelled");
+        wheel.schedule(1_050, "kept");
+        final TimingWheel.Timer<String> far = wheel.schedule(50_000, "far");
+
+        assertThat(wheel.cancel(cancelled)).isTrue();
+        assertThat(wheel.cancel(cancelled)).isFalse();
+        assertThat(wheel.cancel(far)).isTrue();
+        advance(60_000);
+        assertThat(fired).containsExactly("kept");
+        assertThat(cancelled.isPending()).isFalse();
+    }
+
+    @Test
+    void cascadesUpperLevelsAndFiresInDeadlineOrder() {
+        // Needs four levels, spanning 80 ms, 640 ms, 5120 ms and 40960 ms
+        final Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            final long deadline = 1_000 + random.nextInt(20_000);
+            wheel.schedule(deadline, Long.toString(deadline));
+        }
+        assertThat(wheel.size()).isEqualTo(500);
+
+        long previousTick = Long.MIN_VALUE;
+        for (long now = 1_000; now <= 21_020; now += 7) {
+            final int before = fired.size();
+            advance(now);
+            for (final String deadline : fired.subList(before, fired.size())) {
+                // Never early, never more than one tick plus the advance step late
+                assertThat(Long.parseLong(deadline)).isLessThan(now).isGreaterThanOrEqualTo(now - TICK - 7);
+                assertThat(Long.parseLong(deadline) / TICK).isGreaterThanOrEqualTo(previousTick);
+                previousTick = Long.parseLong(deadline) / TICK;
+            }
+        }
+        assertThat(fired).hasSize(500);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void schedulesIntoTheCurrentTickAfterACascade() {
+        // 1280 is a bucket boundary of levels 1 and 2
+        advance(1_280);
+        wheel.schedule(1_285, "current tick");
+        wheel.schedule(1_900, "level 1");
+
+        advance(1_290);
+        assertThat(fired).containsExactly("current tick");
+        advance(1_899);
+        assertThat(fired).containsExactly("current tick");
+        advance(1_910);
+        assertThat(fired).containsExactly("current tick", "level 1");
+    }
+
+    private void advance(final long now) {
+        wheel.advance(now, timer -> fired.add(timer.payload()));
+    }
+}
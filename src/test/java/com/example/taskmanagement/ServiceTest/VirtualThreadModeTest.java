@@ -0,0 +1,70 @@
+package com.example.taskmanagement.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Checks that with {@code spring.threads.virtual.enabled} background work runs
+ * on virtual threads and that more concurrent requests than Tomcat threads
+ * are all served. The throughput comparison with platform threads is the
+ * {@code ThreadModeLoadTest} benchmark.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "server.tomcat.threads.max=4",
+        "spring.datasource.url=jdbc:h2:mem:virtual-threads;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"})
+class VirtualThreadModeTest {
+
+    private static final int CLIENTS = 20;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void backgroundWorkRunsOnVirtualThreads() throws Exception {
+        assertThat(applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get()).isTrue();
+    }
+
+    @Test
+    void servesMoreConcurrentRequestsThanTomcatThreads() throws Exception {
+        final String basic = Base64.getEncoder().encodeToString("username:password".getBytes(StandardCharsets.UTF_8));
+        final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks"))
+                .header("Authorization", "Basic " + basic)
+                .build();
+
+        final List<Future<Integer>> statuses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                statuses.add(executor.submit(() ->
+                        client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+        }
+        for (final Future<Integer> status : statuses) {
+            assertThat(status.get()).isEqualTo(200);
+        }
+    }
+}